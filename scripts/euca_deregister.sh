@@ -1,6 +1,6 @@
 #!/bin/bash
 
-# Parameter 1: Image ID
+# Parameters: one or more Image IDs
 
 export PATH=${EC2_HOME}/bin:${PATH}
 
@@ -13,9 +13,9 @@ if [ -z ${DATE} ]; then
 fi
 
 NUM_PARAMS=1
-if [ $# -ne $NUM_PARAMS ]; then
+if [ $# -lt $NUM_PARAMS ]; then
     echo -n "[$DATE] " >> $IMAGEPROXY_LOG
-    echo "Wrong number of parameters specified to de-registration script; $NUM_PARAMS required." | tee -a $IMAGEPROXY_LOG
+    echo "Wrong number of parameters specified to de-registration script; at least $NUM_PARAMS required." | tee -a $IMAGEPROXY_LOG
     exit 1
 fi
 
@@ -47,51 +47,63 @@ function check_exit_code {
     fi
 }   
 
-echo "[$DATE] Parameter #1(Image ID) is $1" >> $IMAGEPROXY_LOG
-IMG_ID=$1
+## Credentials are set up once; each image is then deregistered in turn
+for IMG_ID in "$@"; do
 
-## Discovering image information
-FIND_CMD="euca-describe-images | grep ^IMAGE | grep $IMG_ID"
-echo "[$DATE] Locating image to deregister..." >> $IMAGEPROXY_LOG
-echo "[$DATE] $FIND_CMD" >> $IMAGEPROXY_LOG
-RESULT=`$FIND_CMD 2>> $IMAGEPROXY_LOG`
+    echo "[$DATE] Image ID is $IMG_ID" >> $IMAGEPROXY_LOG
 
-check_exit_code
+    ## Discovering image information
+    FIND_CMD="euca-describe-images"
+    echo "[$DATE] Locating image to deregister..." >> $IMAGEPROXY_LOG
+    echo "[$DATE] $FIND_CMD" >> $IMAGEPROXY_LOG
+    RESULT=`$FIND_CMD 2>> $IMAGEPROXY_LOG`
 
-echo "[$DATE] $RESULT" >> $IMAGEPROXY_LOG
+    check_exit_code
 
-## Extract the image's bucket name and part prefix
-BUKKIT_NAME=`echo $RESULT | awk '{print substr($3, 1, index($3,"/")-1)}'`
-IMG_PREFIX=`echo $RESULT | awk '{str = substr($3, index($3, "/") + 1); sub(/\.manifest\.xml/, "", str); print str}'`
-if [ -z ${BUKKIT_NAME} ]; then
-    echo -n "[$DATE] " >> $IMAGEPROXY_LOG
-    echo -n "Unable to determine image bucket. Exiting. " | tee -a $IMAGEPROXY_LOG
-    echo "Check $IMAGEPROXY_LOG for more information."
-    echo "" >> $IMAGEPROXY_LOG
-    exit 1
-fi
-if [ -z ${IMG_PREFIX} ]; then
-    echo -n "[$DATE] " >> $IMAGEPROXY_LOG
-    echo -n "Unable to determine image prefix. Exiting. " | tee -a $IMAGEPROXY_LOG
-    echo "Check $IMAGEPROXY_LOG for more information."
-    echo "" >> $IMAGEPROXY_LOG
-    exit 1
-fi
+    RESULT=`echo "$RESULT" | grep ^IMAGE | grep $IMG_ID`
+
+    ## An image that is gone already, e.g. by an earlier run that failed on a later image, counts as deleted
+    if [ -z "$RESULT" ]; then
+        echo "[$DATE] Image $IMG_ID not found; already deregistered" >> $IMAGEPROXY_LOG
+        continue
+    fi
+
+    echo "[$DATE] $RESULT" >> $IMAGEPROXY_LOG
+
+    ## Extract the image's bucket name and part prefix
+    BUKKIT_NAME=`echo $RESULT | awk '{print substr($3, 1, index($3,"/")-1)}'`
+    IMG_PREFIX=`echo $RESULT | awk '{str = substr($3, index($3, "/") + 1); sub(/\.manifest\.xml/, "", str); print str}'`
+    if [ -z ${BUKKIT_NAME} ]; then
+        echo -n "[$DATE] " >> $IMAGEPROXY_LOG
+        echo -n "Unable to determine image bucket. Exiting. " | tee -a $IMAGEPROXY_LOG
+        echo "Check $IMAGEPROXY_LOG for more information."
+        echo "" >> $IMAGEPROXY_LOG
+        exit 1
+    fi
+    if [ -z ${IMG_PREFIX} ]; then
+        echo -n "[$DATE] " >> $IMAGEPROXY_LOG
+        echo -n "Unable to determine image prefix. Exiting. " | tee -a $IMAGEPROXY_LOG
+        echo "Check $IMAGEPROXY_LOG for more information."
+        echo "" >> $IMAGEPROXY_LOG
+        exit 1
+    fi
+
+    ## Deregistering the image
+    DEREGISTER_CMD="euca-deregister $IMG_ID"
+    echo "[$DATE] Deregistering image..." >> $IMAGEPROXY_LOG
+    echo "[$DATE] $DEREGISTER_CMD" >> $IMAGEPROXY_LOG
+    RESULT=`$DEREGISTER_CMD 2>> $IMAGEPROXY_LOG`
 
-## Deregistering the image
-DEREGISTER_CMD="euca-deregister $IMG_ID"
-echo "[$DATE] Deregistering image..." >> $IMAGEPROXY_LOG
-echo "[$DATE] $DEREGISTER_CMD" >> $IMAGEPROXY_LOG
-RESULT=`$DEREGISTER_CMD 2>> $IMAGEPROXY_LOG`
+    check_exit_code
 
-check_exit_code
+    echo "[$DATE] $RESULT" >> $IMAGEPROXY_LOG
 
-echo "[$DATE] $RESULT" >> $IMAGEPROXY_LOG
+    ## Deleting the image
+    DELETE_CMD="euca-delete-bundle -b $BUKKIT_NAME -p $IMG_PREFIX"
+    echo "[$DATE] Deleting image..." >> $IMAGEPROXY_LOG
+    echo "[$DATE] $DELETE_CMD" >> $IMAGEPROXY_LOG
+    RESULT=`$DELETE_CMD 2>> $IMAGEPROXY_LOG`
 
-## Deleting the image
-DELETE_CMD="euca-delete-bundle -b $BUKKIT_NAME -p $IMG_PREFIX"
-echo "[$DATE] Deleting image..." >> $IMAGEPROXY_LOG
-echo "[$DATE] $DELETE_CMD" >> $IMAGEPROXY_LOG
-RESULT=`$DELETE_CMD 2>> $IMAGEPROXY_LOG`
+    check_exit_code
 
-check_exit_code
+done
@@ -1,6 +1,6 @@
 #!/bin/bash
 
-# Parameter 1: Image ID
+# Parameters: one or more Image IDs
 
 if [ -z ${IMAGEPROXY_LOG} ]; then
 	IMAGEPROXY_LOG=/tmp/imageproxy.register.log
@@ -11,9 +11,9 @@ if [ -z ${DATE} ]; then
 fi
 
 NUM_PARAMS=1
-if [ $# -ne $NUM_PARAMS ]; then
+if [ $# -lt $NUM_PARAMS ]; then
     echo -n "[$DATE] " >> $IMAGEPROXY_LOG
-    echo "Wrong number of parameters specified to de-registration script; $NUM_PARAMS required." | tee -a $IMAGEPROXY_LOG
+    echo "Wrong number of parameters specified to de-registration script; at least $NUM_PARAMS required." | tee -a $IMAGEPROXY_LOG
     exit 1
 fi
 
@@ -45,13 +45,37 @@ function check_exit_code {
     fi
 }   
 
-echo "[$DATE] Parameter #1(Image ID) is $1" >> $IMAGEPROXY_LOG
-IMG_ID=$1
+echo "[$DATE] Parameters (Image IDs) are $*" >> $IMAGEPROXY_LOG
+IMG_IDS="$*"
 
-## Delete the image
-DELETE_CMD="openstack image delete $IMG_ID"
-echo "[$DATE] Deleting image..." >> $IMAGEPROXY_LOG
+## Delete the images, all with one command
+DELETE_CMD="openstack image delete $IMG_IDS"
+echo "[$DATE] Deleting images..." >> $IMAGEPROXY_LOG
 echo "[$DATE] $DELETE_CMD" >> $IMAGEPROXY_LOG
 RESULT=`$DELETE_CMD 2>> $IMAGEPROXY_LOG`
 
-check_exit_code
+if [ $? -ne 0 ]; then
+    ## Some of the images may have been deleted, or have been gone already, e.g. by an
+    ## earlier run that failed part way; only the images that are still there failed
+    LIST_CMD="openstack image list -f value -c ID"
+    echo "[$DATE] Checking which images are left..." >> $IMAGEPROXY_LOG
+    echo "[$DATE] $LIST_CMD" >> $IMAGEPROXY_LOG
+    REMAINING=`$LIST_CMD 2>> $IMAGEPROXY_LOG`
+
+    check_exit_code
+
+    FAILED=0
+    for IMG_ID in $IMG_IDS; do
+        if echo "$REMAINING" | grep -qx "$IMG_ID"; then
+            echo "[$DATE] Image $IMG_ID could not be deleted" >> $IMAGEPROXY_LOG
+            FAILED=1
+        else
+            echo "[$DATE] Image $IMG_ID is deleted" >> $IMAGEPROXY_LOG
+        fi
+    done
+
+    if [ $FAILED -ne 0 ]; then
+        echo "Exception while executing script. Check $IMAGEPROXY_LOG for more information."
+        exit 1
+    fi
+fi
@@ -0,0 +1,123 @@
+package orca.imageproxy;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * Adaptive Replacement Cache.
+ * Files requested once (T1) and files requested again (T2) are kept in separate
+ * recency lists, and the signatures of files recently evicted from either list are
+ * remembered (B1, B2). A request for a remembered file shifts the target size of T1
+ * towards whichever list would have kept it, so the cache adapts between favouring
+ * recency and frequency. Sizes are counted in files, since that is what a hit saves.
+ */
+public class ArcPolicy implements CachePolicy {
+
+	public static final String NAME = "ARC";
+
+	// cached files, least recently used first
+	private final LinkedHashMap<String, Entry> t1 = new LinkedHashMap<String, Entry>();
+	private final LinkedHashMap<String, Entry> t2 = new LinkedHashMap<String, Entry>();
+
+	// signatures of evicted files, oldest first
+	private final LinkedHashSet<String> b1 = new LinkedHashSet<String>();
+	private final LinkedHashSet<String> b2 = new LinkedHashSet<String>();
+
+	private final LinkedHashSet<String> candidates = new LinkedHashSet<String>();
+
+	// target number of files in t1
+	private double target = 0;
+
+	public String getName() {
+		return NAME;
+	}
+
+	public void added(Entry e) {
+		String signature = e.getSignature();
+		int capacity = Math.max(1, t1.size() + t2.size());
+		if (b1.remove(signature)) {
+			// evicted for lack of recency: give recently seen files more room
+			target = Math.min(capacity, target + Math.max(1.0, (double) b2.size() / Math.max(1, b1.size())));
+			t2.put(signature, e);
+		}
+		else if (b2.remove(signature)) {
+			// evicted for lack of frequency: give repeatedly used files more room
+			target = Math.max(0, target - Math.max(1.0, (double) b1.size() / Math.max(1, b2.size())));
+			t2.put(signature, e);
+		}
+		else if (e.getHits() > 0) {
+			// loaded from the database with a history of reuse
+			t2.put(signature, e);
+		}
+		else {
+			t1.put(signature, e);
+		}
+	}
+
+	public void accessed(Entry e) {
+		String signature = e.getSignature();
+		t1.remove(signature);
+		t2.remove(signature);
+		t2.put(signature, e);
+	}
+
+	public void offer(Entry e) {
+		candidates.add(e.getSignature());
+	}
+
+	public void withdraw(Entry e) {
+		candidates.remove(e.getSignature());
+	}
+
+	public void removed(Entry e) {
+		String signature = e.getSignature();
+		candidates.remove(signature);
+		if (t1.remove(signature) != null)
+			b1.add(signature);
+		else if (t2.remove(signature) != null)
+			b2.add(signature);
+
+		// remember about as many evicted files as are cached
+		int capacity = Math.max(1, t1.size() + t2.size());
+		trim(b1, capacity);
+		trim(b2, capacity);
+	}
+
+	public Entry victim() {
+		Entry fromT1 = oldestCandidate(t1);
+		Entry fromT2 = oldestCandidate(t2);
+		if (fromT1 == null)
+			return fromT2;
+		if (fromT2 == null || t1.size() > target)
+			return fromT1;
+		return fromT2;
+	}
+
+	public void clear() {
+		t1.clear();
+		t2.clear();
+		b1.clear();
+		b2.clear();
+		candidates.clear();
+		target = 0;
+	}
+
+	private Entry oldestCandidate(LinkedHashMap<String, Entry> list) {
+		// files in use are few, so this only ever skips a handful
+		for (Map.Entry<String, Entry> item : list.entrySet()) {
+			if (candidates.contains(item.getKey()))
+				return item.getValue();
+		}
+		return null;
+	}
+
+	private static void trim(LinkedHashSet<String> ghosts, int capacity) {
+		Iterator<String> itr = ghosts.iterator();
+		while (ghosts.size() > capacity && itr.hasNext()) {
+			itr.next();
+			itr.remove();
+		}
+	}
+}
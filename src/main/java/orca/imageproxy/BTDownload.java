@@ -1,18 +1,20 @@
 package orca.imageproxy; 
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.net.HttpURLConnection;
+import java.io.RandomAccessFile;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.Lock;
 
 import javax.management.AttributeNotFoundException;
 
@@ -31,8 +33,35 @@ public class BTDownload {
 	private static long CACHE_SIZE = (long) Math.pow(2, 30);
 	private static String cacheSizeProperty = "spacesize";
 
+	// parallel range requests used for a single HTTP download
+	private static final String downloadSegmentsProperty = "imageproxy.download.segments";
+	private static final String minSegmentSizeProperty = "imageproxy.download.minSegmentSize";
+	private int downloadSegments = 4;
+	private long minSegmentSize = 64L * 1024 * 1024;
+
+	// background eviction starts above the high watermark and stops at the low one,
+	// both in percent of the cache size
+	private static final String highWatermarkProperty = "imageproxy.cache.highWatermark";
+	private static final String lowWatermarkProperty = "imageproxy.cache.lowWatermark";
+	private long highWatermark = 90;
+	private long lowWatermark = 80;
+
 	private static BTDownload btdownload = null;
 	private SqliteDLDatabase sqliteDLDatabase;
+	
+	// space accounting for the cache; only reservations that do not fit take the eviction lock
+	private StorageLedger storageLedger;
+	private final Object evictionLock = new Object();
+	private CacheEvictor cacheEvictor;
+	
+	// downloads in progress, by signature
+	private final SingleFlight<Pair<String, String>> downloads = new SingleFlight<Pair<String, String>>();
+	
+	// limits the downloads running at once
+	private final DownloadScheduler downloadScheduler = DownloadScheduler.getInstance();
+	
+	// downloads that failed recently, by signature
+	private final DownloadFailures downloadFailures = DownloadFailures.getInstance();
 
 	private static final String DOWNLOADTYPE_BT = "BT";
 	private static final String DOWNLOADTYPE_HTTP = "HTTP";
@@ -85,6 +114,13 @@ public class BTDownload {
 		
 		l.info("Available space for downloads = "+ CACHE_SIZE + " bytes");
 		
+		downloadSegments = (int) Globals.getInstance().getLongProperty(downloadSegmentsProperty,
+				downloadSegments);
+		minSegmentSize = Globals.getInstance().getLongProperty(minSegmentSizeProperty,
+				minSegmentSize);
+		l.info("HTTP downloads use up to " + downloadSegments + " connections, with segments of at least " +
+				minSegmentSize + " bytes");
+		
 		new File(BTDownload.DOWNLOADFOLDER).mkdir();
 		
 		//clear the files in downloading status
@@ -92,105 +128,182 @@ public class BTDownload {
 		if(!this.recover())
 			l.info("no downloading file needs to be cleared.");
 		
+		storageLedger = new StorageLedger(CACHE_SIZE, sqliteDLDatabase.getExistingDataSize());
+		l.info("Download cache " + storageLedger);
+		
+		highWatermark = Globals.getInstance().getLongProperty(highWatermarkProperty, highWatermark);
+		lowWatermark = Globals.getInstance().getLongProperty(lowWatermarkProperty, lowWatermark);
+		if (highWatermark > 100 || highWatermark <= 0)
+			highWatermark = 100;
+		if (lowWatermark > highWatermark || lowWatermark < 0)
+			lowWatermark = highWatermark;
+		l.info("Files are evicted in the background once the cache is " + highWatermark +
+			"% full, until it is " + lowWatermark + "% full");
+		cacheEvictor = new CacheEvictor(this, storageLedger,
+				CACHE_SIZE / 100 * highWatermark, CACHE_SIZE / 100 * lowWatermark);
+		cacheEvictor.start();
+		
+		// finish deleting images queued before a restart
+		DeregistrationQueue.getInstance();
 	}
 	
 	/**
-	 * function to download file with given url and signature, if the same is not already cached
+	 * function to download file with given url and signature, if the same is not already cached.
+	 * Concurrent requests for the same file share one download, and its outcome.
+	 * A file that failed to download recently fails right away, with the same error.
+	 * Every successful call holds a reference to the file, to be given up with removeReference().
 	 * @param surl
 	 * @param signature
 	 * @return a Pair of the file path and the file's correct signature (SHA-1 hash)
 	 * @throws Exception
 	 */
-        public Pair<String, String> downloadFile(String surl, String signature) throws Exception
+        public Pair<String, String> downloadFile(final String surl, final String signature) throws Exception
 	{
-		ActiveDownloadMap dlMap = ActiveDownloadMap.getInstance();
-		String wakeObject;
-		String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-
-		try {
-			URL url = new URL(surl);
-			String filename = url.getFile();
+		URL url = new URL(surl);
+		String filename = url.getFile();
+		
+		final String downloadType = (filename.endsWith(".torrent")) ? DOWNLOADTYPE_BT : DOWNLOADTYPE_HTTP;
+		
+		downloadFailures.check(signature);
+		
+		while (true) {
+			SingleFlight.Flight<Pair<String, String>> flight = downloads.join(signature,
+					new Callable<Pair<String, String>>() {
+				public Pair<String, String> call() throws Exception {
+					return fetch(surl, signature, downloadType);
+				}
+			});
 			
-			String downloadType = DOWNLOADTYPE_HTTP;
-			if (filename.endsWith(".torrent")) 
-				downloadType = DOWNLOADTYPE_BT;
-
-			String filePath = sqliteDLDatabase.checkDownloadList(signature, true,
-									surl, downloadType);
-			wakeObject = (String) dlMap.get(signature+methodName);
-			if (wakeObject == null) {
-				String newWakeObject;
-				if (filePath == null)
-					newWakeObject = new String(Globals.IMAGE_INPROGRESS);
-				else
-					newWakeObject = new String(filePath);
-				wakeObject = (String) dlMap.putIfAbsent(signature+methodName,
-									newWakeObject);
-				if (wakeObject == null) wakeObject = newWakeObject;
-			}
+			Pair<String, String> fileInfo = flight.get();
+			if (flight.isLeader() || !signature.equals(fileInfo.getSecond()))
+				return fileInfo;
 			
-			// null means we get to load it, otherwise wait and return file information
+			// the file another request downloaded for us; take our own reference to it
+			String filePath = sqliteDLDatabase.addReference(signature);
 			if (filePath != null) {
-				synchronized(wakeObject) {
-					while (Globals.IMAGE_INPROGRESS.equals(filePath)) {
-						l.info("File download for URL: " + surl +
-							" in progress; awaiting completion.");
-						try {
-							// wait some other thread to download the file
-							wakeObject.wait();
-						} catch (InterruptedException e) {
-							;
-						}
-						l.info("Awakened while waiting for file to download; " +
-							"checking to see if complete...");
-						filePath = sqliteDLDatabase.checkDownloadList(signature, 
-											false, null, null);
-						
-						//Exception while downloading file
-						if(filePath == null) {
-                                                    return downloadFile(surl, signature);
-						}
-					}
-					l.info("File download from URL: " + surl + " complete.");
-					return new Pair<String, String>(filePath, signature);
-				}
-			} else {
-				l.info("Downloading file from URL: " + surl);
-				Pair<String, String> fileInfo = controller(signature, surl, downloadType);
-				l.info("File downloaded from URL: " + surl);
-				return fileInfo;
+				l.info("File download from URL: " + surl + " complete.");
+				return new Pair<String, String>(filePath, signature);
 			}
-			
+			// evicted already; start over
+		}
+	}
+	
+	/**
+	 * Takes a reference to the file, downloading it first if it is not cached.
+	 * Runs for one request at a time per signature.
+	 * @param surl
+	 * @param signature
+	 * @param downloadType
+	 * @return a Pair of the file path and the file's correct signature (SHA-1 hash)
+	 * @throws Exception
+	 */
+	private Pair<String, String> fetch(String surl, String signature, String downloadType) throws Exception
+	{
+		String filePath = sqliteDLDatabase.checkDownloadList(signature, true,
+								surl, downloadType);
+		
+		if (Globals.IMAGE_INPROGRESS.equals(filePath)) {
+			// every download of this process runs in a flight, so this one is not ours to wait for
+			removeReference(signature);
+			throw new IOException("File (" + signature + ") is being downloaded, but not by this image proxy");
+		}
+		if (filePath != null)
+			return new Pair<String, String>(filePath, signature);
+		
+		// null means we get to load it
+		// set once the download has reserved its space in the cache
+		boolean[] reserved = { false };
+		try {
+			l.info("Downloading file from URL: " + surl);
+			Pair<String, String> fileInfo = controller(signature, surl, downloadType, reserved);
+			l.info("File downloaded from URL: " + surl);
+			if (signature.equals(fileInfo.getSecond()))
+				downloadFailures.clear(signature);
+			else
+				downloadFailures.failed(signature, "Provided signature " + signature +
+					" does not match computed signature " + fileInfo.getSecond() + " for file at URL: " + surl);
+			return fileInfo;
 		} catch(Exception e) {
-			sqliteDLDatabase.deleteEntry(signature);
+			removeEntry(signature, reserved[0]);
+			// only a failure of the origin is remembered; one on our side, or an origin
+			// that was not even tried, says nothing about whether the file can be had
+			if (Origins.isOriginFailure(e))
+				downloadFailures.failed(signature, e);
 			throw e;
 		}
-		finally {
-			wakeObject = (String) dlMap.get(signature+methodName);
-			if (wakeObject != null) {
-				synchronized (wakeObject) {
-					wakeObject.notifyAll();
-				}
-				dlMap.remove(signature+methodName);
-			}
-		}
 	}
 	
 	/**
 	 * Controls the download of a given file
 	 * @param fileSignature
 	 * @param surl
+	 * @param reserved set to true once the download has reserved the space for the file
 	 * @return downloaded file path and signature
 	 * @throws Exception
 	 */
-        private Pair<String, String> controller(String fileSignature, String surl, String downloadType) throws Exception
+        private Pair<String, String> controller(String fileSignature, String surl, String downloadType,
+        		boolean[] reserved) throws Exception
 	{
-		findFreeStorage(fileSignature, surl, downloadType);
+		// an interrupted download left by a previous run already holds part of the file
+		Entry partial = sqliteDLDatabase.getEntry(fileSignature);
+		
+		// or all of it, if the run stopped before it could mark the download complete;
+		// there is nothing left to ask the origin for
+		if (!DOWNLOADTYPE_BT.equals(downloadType) && isFullyWritten(partial)) {
+			if (verifyWrittenFile(fileSignature))
+				return new Pair<String, String>(BTDownload.DOWNLOADFOLDER +
+								File.separator + fileSignature, fileSignature);
+			partial = sqliteDLDatabase.getEntry(fileSignature);
+		}
 		
-		String correctSign = downloadfromURL(surl, fileSignature, downloadType);
+		// for http, the request that tells us the size also delivers the body
+		final HttpProbe[] probe = { null };
+		
+		String correctSign;
+		long fetchTime;
+		DownloadScheduler.Slot slot = null;
+		try {
+			long fileSize;
+			if (DOWNLOADTYPE_BT.equals(downloadType)) {
+				fileSize = getFileSize(surl, downloadType, null);
+				slot = downloadScheduler.acquire(new URL(surl), fileSize);
+			}
+			else {
+				// the download takes its slot before the file is requested, so that no
+				// connection to the origin is held while it is queued
+				slot = acquireHttpSlot(surl, partial);
+				probe[0] = openHttpProbe(surl, fileSignature, partial);
+				fileSize = getFileSize(surl, downloadType, probe[0]);
+				downloadScheduler.resize(slot, fileSize);
+			}
+			l.info("File (" + fileSignature + ") size is " + fileSize + "bytes");
+			
+			findFreeStorage(fileSignature, surl, fileSize,
+					(partial == null) ? 0 : partial.getFilesize());
+			reserved[0] = true;
+			
+			long start = System.currentTimeMillis();
+			if (DOWNLOADTYPE_BT.equals(downloadType))
+				correctSign = downloadfromURL(surl, fileSignature, downloadType, null);
+			else
+				correctSign = httpdownloadWithRetries(surl, fileSignature, fileSize, probe);
+			fetchTime = System.currentTimeMillis() - start;
+			
+			// a resumed download only fetched part of the file; estimate the whole
+			if (probe[0] != null && probe[0].isPartial() && probe[0].getContentLength() > 0)
+				fetchTime = fetchTime * fileSize / probe[0].getContentLength();
+		}
+		finally {
+			if (slot != null)
+				downloadScheduler.release(slot);
+			if (probe[0] != null)
+				probe[0].close();
+		}
 		
 		if (fileSignature.equals(correctSign)) {
 			l.info("File finished downloading; signature verified.");
+			recordCost(fileSignature, fetchTime, -1);
+			l.info("Download cache " + sqliteDLDatabase.getCacheStatistics());
 			return new Pair<String, String>(BTDownload.DOWNLOADFOLDER + 
 							File.separator + fileSignature, fileSignature);
 		}
@@ -202,175 +315,378 @@ public class BTDownload {
 	}
 	
 	/**
-	 * Checks if enough storage is available to download the file.
+	 * Checks if enough storage is available to download the file, and reserves it.
 	 * If not, it tries to allocate sufficient storage to store the file
-	 * by emptying the storage cache according to an LRU policy.
+	 * by emptying the storage cache according to the configured cache policy.
 	 * If there is still insufficient storage after trying to clear the
 	 * storage cache, an exception will be thrown.
+	 * Downloads whose reservation fits do not wait on each other; only those
+	 * that need space to be freed are serialized, behind a single evicting thread.
+	 * Space is normally freed ahead of time by the background evictor, so a request
+	 * only evicts files itself when its reservation cannot fit at all.
 	 * @param fileSignature
 	 * @param surl
-         * @param downloadType
+	 * @param fileSize size of the file to be downloaded
+	 * @param reservedSize space already accounted to this file by an interrupted download
 	 * @throws Exception
 	 */
-        private synchronized void findFreeStorage (String fileSignature, String surl, String downloadType)
+        private void findFreeStorage (String fileSignature, String surl, long fileSize,
+        		long reservedSize)
 	throws Exception {
-		//fetching the size of the file to be downloaded
-		long fileSize = getFileSize(surl, downloadType);
-		l.info("File (" + fileSignature + ") size is " + fileSize + "bytes");
-		
-		//calculating space used up by existing data
-		long existingdatasize = sqliteDLDatabase.getExistingDataSize();
+		if (!storageLedger.tryReserve(fileSize, reservedSize)) {
+			l.info("Download cache " + storageLedger + "; making room for " + fileSize + " bytes");
+			
+			synchronized (evictionLock) {
+				//deleting unused files to make space
+				while (!storageLedger.tryReserve(fileSize, reservedSize)) {
+					if (!evictOne()) {
+						throw new LocalIOException("Insufficient storage to download file: " +
+									fileSignature + " from URL: " + surl);
+					}
+				}
+			}
+			l.info("Download cache " + sqliteDLDatabase.getCacheStatistics());
+		}
+		cacheEvictor.check();
 		
-		l.info("Downloaded + downloading files size = " + existingdatasize);
-		l.info("Total space reserved for downloading files is " + BTDownload.CACHE_SIZE);
+		l.info("Reserved " + fileSize + " bytes for file (" + fileSignature + "); download cache " +
+			storageLedger);
 		
-		//deleting unused files to make space
-		while (fileSize > (BTDownload.CACHE_SIZE - existingdatasize)) {
+		try {
+			sqliteDLDatabase.updateFileSize(fileSignature, fileSize);
+		}
+		catch (SQLException e) {
+			storageLedger.cancel(fileSize, reservedSize);
+			throw e;
+		}
+	}
+	
+	/**
+	 * Evicts the file the cache policy picks. The file is evicted under its entry lock, so
+	 * a request cannot take a reference to it between the pick and the delete; if one took
+	 * it just before, the file is left alone.
+	 * @return false if there is no file that can be evicted
+	 * @throws Exception
+	 */
+	boolean evictOne() throws Exception {
+		synchronized (evictionLock) {
 			Entry e = sqliteDLDatabase.getMostStaleEntry();
-			
-			if (e == null) {
-				throw new IOException("Insufficient storage to download file: " +
-							fileSignature + " from URL: " + surl);
+			if (e == null)
+				return false;
+			Lock lock = sqliteDLDatabase.getEntryLock(e.getSignature());
+			lock.lock();
+			try {
+				if (sqliteDLDatabase.isEvictable(e.getSignature()))
+					evict(e);
 			}
-			l.info("File " + e.getSignature() + "(" + e.getFilesize() +
-				" bytes) is going to be deleted");
-			
-			if (DOWNLOADTYPE_BT.equals(e.getDownloadType())) {
-				try{
-					deleteImageBT(e.getSignature(), e.getTorrentFilePath());
-				}catch(Exception exception){
-					throw new IOException("Couldn't delete file " + e.getFilePath());
-				}
+			finally { lock.unlock(); }
+			return true;
+		}
+	}
+	
+	/**
+	 * Removes a file from the cache, deregistering the image made from it.
+	 * @param e
+	 * @throws Exception
+	 */
+	private void evict(Entry e) throws Exception {
+		l.info("File " + e.getSignature() + "(" + e.getFilesize() +
+			" bytes) is going to be deleted");
+		
+		if (DOWNLOADTYPE_BT.equals(e.getDownloadType())) {
+			try{
+				deleteImageBT(e.getSignature(), e.getTorrentFilePath());
+			}catch(Exception exception){
+				throw new LocalIOException("Couldn't delete file " + e.getFilePath());
 			}
-			else {
-				File file = new File(e.getFilePath());
-				boolean result = file.delete();
-				if (!result) {
-					throw new IOException("Couldn't delete file " + e.getFilePath());
-				}
+		}
+		else {
+			File file = new File(e.getFilePath());
+			boolean result = file.delete();
+			if (!result) {
+				throw new LocalIOException("Couldn't delete file " + e.getFilePath());
 			}
-                        
-                        // HACK - de-couple bukkit garbage collection (below)
-                        // from the local cache.
-                        // De-register and delete image
-                        DeregistrationScript dr = new DeregistrationScript();
-                        dr.deregister(e.getSignature());
-			
-			//delete entry (for the deleted file) from database
-			sqliteDLDatabase.deleteEntry(e.getSignature());
-			
-			l.info("File (" + e.getSignature() + ") (" +
-				e.getFilesize() + " bytes) is deleted");
-			
-			//reset existing data size
-			existingdatasize -= e.getFilesize();
 		}
+                
+                // HACK - de-couple bukkit garbage collection (below)
+                // from the local cache.
+                // De-register and delete image, in the background
+                DeregistrationQueue.getInstance().enqueue(e.getSignature());
 		
-		sqliteDLDatabase.updateFileSize(fileSignature, fileSize);
+		//delete entry (for the deleted file) from database
+		removeEntry(e.getSignature(), false);
+		
+		l.info("File (" + e.getSignature() + ") (" +
+			e.getFilesize() + " bytes) is deleted");
+	}
+	
+	/**
+	 * Deletes the entry for the given signature, and returns its space to the cache.
+	 * @param signature
+	 * @param reserved whether a download of the file reserved its space; a download that
+	 * failed before then, e.g. of a claimed partial file, has no reservation to end
+	 * @throws SQLException
+	 */
+	private void removeEntry(String signature, boolean reserved) throws SQLException {
+		Entry e = sqliteDLDatabase.getEntry(signature);
+		if (e == null)
+			return;
+		
+		// only the thread whose delete took effect gives the space back
+		if (sqliteDLDatabase.deleteEntry(signature) > 0)
+			storageLedger.release(e.getFilesize(),
+					reserved && e.getStatus() == SqliteDLDatabase.STATUS_DOWNLOADING);
 	}
 
 	/**
 	 * Function of fetch size of file corresponding to the given URL
 	 * @param surl
          * @param downloadType
+	 * @param probe the open request for an http file
 	 * @return file size
 	 * @throws Exception
 	 */
-	private long getFileSize(String surl, String downloadType) throws Exception{
+	private long getFileSize(String surl, String downloadType, HttpProbe probe) throws Exception{
 	
 		long fileSize = 0;
 		
-		URL url = new URL(surl);
-		
 		if (downloadType.equals(DOWNLOADTYPE_BT)) {
 			fileSize = getFileLength(surl);
 		}else {
-			HttpURLConnection urlcon = (HttpURLConnection)url.openConnection();
-			try{
-				urlcon.connect();
-			}catch(IOException ioException){
-				throw new IOException("Unable to connect to " + url);
-			}
-			
-			try{
-				String fileLength = urlcon.getHeaderField("Content-Length");
-				long length = Long.parseLong(fileLength);
-				if(length <= 0)
-					throw new IOException("Failure while attempting to fetch file size");
-				fileSize = length;
-			}catch(Exception exception){
-				throw new IOException("Could not fetch file size for " + url);
-			}
-			
-			urlcon.disconnect();
+			fileSize = probe.getTotalLength();
+			if (fileSize <= 0)
+				throw new IOException("Could not fetch file size for " + surl);
 		}
 		
 		return fileSize;
 	}
 	
+	/**
+	 * Takes a download slot for an http file, in the lane of its size. The size of an
+	 * interrupted download is known already. Otherwise the download starts right away
+	 * if a slot is free for a file of any size, and its lane is settled once the file is
+	 * requested; only a download that has to queue first asks for the size, with a HEAD
+	 * request, so that a small file queues on the small lane.
+	 * @param surl
+	 * @param partial entry of an interrupted download; may be null
+	 * @return the slot of the download
+	 * @throws Exception
+	 */
+	private DownloadScheduler.Slot acquireHttpSlot(final String surl, Entry partial) throws Exception {
+		final URL url = new URL(surl);
+		long size = (partial != null && partial.getFilesize() > 0) ? partial.getFilesize() : -1;
+		DownloadScheduler.Slot slot = downloadScheduler.tryAcquire(url, size);
+		if (slot != null)
+			return slot;
+		if (size < 0) {
+			size = Origins.getInstance().call(url, new Callable<Long>() {
+				public Long call() throws Exception {
+					return HttpProbe.head(url);
+				}
+			});
+		}
+		return downloadScheduler.acquire(url, size);
+	}
+	
+	/**
+	 * Opens the request for an http file. If an earlier download of the file was
+	 * interrupted, only the missing part is asked for, as long as the origin
+	 * still has the same version of the file.
+	 * Failed attempts are retried as the origin's policy says.
+	 * @param surl
+	 * @param signature
+	 * @param partial entry of an interrupted download; may be null
+	 * @return the open request
+	 * @throws Exception
+	 */
+	private HttpProbe openHttpProbe(final String surl, final String signature, final Entry partial) throws Exception{
+		return Origins.getInstance().call(new URL(surl), new Callable<HttpProbe>() {
+			public HttpProbe call() throws Exception {
+				return tryOpenHttpProbe(surl, signature, partial);
+			}
+		});
+	}
+	
+	private HttpProbe tryOpenHttpProbe(String surl, String signature, Entry partial) throws IOException{
+		
+		File file = new File(BTDownload.DOWNLOADFOLDER + File.separator + signature);
+		
+		long offset = 0;
+		String validator = null;
+		if (partial != null && partial.getBytesCommitted() > 0) {
+			validator = (partial.getEtag() != null) ? partial.getEtag() : partial.getLastModified();
+			if (validator != null && file.length() >= partial.getBytesCommitted())
+				offset = partial.getBytesCommitted();
+		}
+		
+		HttpProbe probe = HttpProbe.open(new URL(surl), offset, validator);
+		
+		if (offset > 0 && !probe.isPartial())
+			l.info("File at URL: " + surl + " has changed since it was partially downloaded; " +
+				"discarding the partial file.");
+		
+		return probe;
+	}
+	
 	/**
 	 * If the file is bittorrent file, then download by using bt protocol, else download using http 
 	 * @param surl
 	 * @param signature
+	 * @param probe the open request for an http file
 	 * @return correct file signature
 	 * @throws Exception
 	 */
-	private String downloadfromURL(String surl, String signature, String downloadType) throws Exception{
+	private String downloadfromURL(String surl, String signature, String downloadType, HttpProbe probe) throws Exception{
 		
 		if (downloadType.equals(DOWNLOADTYPE_BT)) {
 			// download by bt protocol
 			return btdownloadfromURL(surl, signature);
 		} else {
 			// download file directly
-			return httpdownloadfromURL(surl, signature);
+			return httpdownloadfromURL(surl, signature, probe);
 		}
 	}
 	
 	/**
-	 * Download file using http
+	 * Downloads an http file over the already open request. If the transfer fails for a
+	 * reason that may pass, it is tried again as the origin's policy says, resuming from
+	 * what was written so far, within the space already reserved for the file.
+	 * @param surl
+	 * @param signature
+	 * @param fileSize size of the file, as reserved
+	 * @param probe holds the open request; replaced by the request of each retry
+	 * @return correct signature
+	 * @throws Exception
+	 */
+	private String httpdownloadWithRetries(final String surl, final String signature, final long fileSize,
+			final HttpProbe[] probe) throws Exception {
+		return Origins.getInstance().call(new URL(surl), new Callable<String>() {
+			public String call() throws Exception {
+				if (probe[0] == null) {
+					Entry partial = sqliteDLDatabase.getEntry(signature);
+					if (partial == null)
+						throw new Exception("Entry for file " + signature + " was removed while it was downloading");
+					probe[0] = tryOpenHttpProbe(surl, signature, partial);
+					if (probe[0].getTotalLength() != fileSize)
+						throw new Exception("File at URL: " + surl + " changed size from " + fileSize +
+							" to " + probe[0].getTotalLength() + " bytes while it was downloading");
+				}
+				try {
+					return httpdownloadfromURL(surl, signature, probe[0]);
+				}
+				catch (IOException e) {
+					probe[0].close();
+					probe[0] = null;
+					throw e;
+				}
+			}
+		});
+	}
+	
+	/**
+	 * Download file using http, reading the body of the already open request.
+	 * If the request resumes an interrupted download, only the missing part is written.
 	 * @param url
 	 * @param signature
+	 * @param probe the open request for the file
 	 * @return correct signature
 	 * @throws SQLException
 	 * @throws IOException
 	 * @throws NoSuchAlgorithmException
 	 * @throws URISyntaxException 
 	 */
-	private String httpdownloadfromURL(String surl, String signature) throws SQLException, IOException, NoSuchAlgorithmException, URISyntaxException
+	private String httpdownloadfromURL(String surl, String signature, HttpProbe probe) throws SQLException, IOException, NoSuchAlgorithmException, URISyntaxException
 	{
 		
-		URL url = new URL(surl);
+		URL url = probe.getURL();
 		
-		BufferedInputStream bis;
-		try {
-			HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-			bis = new BufferedInputStream(connection.getInputStream());
-		}
-		catch (IOException ioException) {
-			throw new IOException("Error encountered while attempting to " +
-						"establish HTTP connection to URL: " +
-						surl + " ; reason was: " + ioException.getMessage());
+		File newfile = new File(BTDownload.DOWNLOADFOLDER + File.separator + signature);
+		
+		long offset = probe.getOffset();
+		if (offset > 0)
+			l.info("Resuming download of " + surl + " at byte " + offset);
+		
+		sqliteDLDatabase.beginTransfer(signature, probe.getEtag(), probe.getLastModified(), offset);
+		
+		// the hash is computed while the file is written, rather than by re-reading it afterwards;
+		// only a resumed prefix has to be read back in
+		MessageDigest digest = MessageDigest.getInstance(Util.HASH_METHOD);
+		if (offset > 0) {
+			try {
+				Util.updateDigest(digest, newfile.getPath(), offset);
+			}
+			catch (IOException e) {
+				throw new LocalIOException("Could not read the partial file " + newfile.getPath() +
+					" ; reason was: " + e.getMessage(), e);
+			}
 		}
 		
-		File newfile = new File(BTDownload.DOWNLOADFOLDER + File.separator + signature);
+		long remaining = probe.getContentLength();
+		long length = probe.getTotalLength();
+		int segments = getSegmentCount(probe, remaining);
+		
+		ReadableByteChannel source = probe.getBody();
+		
+		final DownloadCheckpoint checkpoint = new DownloadCheckpoint(sqliteDLDatabase, signature, offset);
 		
 		try {
-			BufferedOutputStream fos = new BufferedOutputStream(new FileOutputStream(newfile));
-			int b;
-			while ((b = bis.read()) != -1) fos.write(b);
-			fos.flush();
-			fos.close();
+			if (segments > 1) {
+				l.info("Downloading " + surl + " over " + segments + " connections");
+				try {
+					SegmentedDownload segmentedDownload =
+						new SegmentedDownload(url, newfile, offset, length, segments);
+					segmentedDownload.setCheckpoint(checkpoint);
+					segmentedDownload.download(source, digest);
+				}
+				finally {
+					// only the first segment was read from this connection
+					probe.disconnect();
+				}
+			}
+			else {
+				RandomAccessFile raf;
+				try {
+					raf = new RandomAccessFile(newfile, "rw");
+				}
+				catch (IOException e) {
+					throw new LocalIOException(e.getMessage(), e);
+				}
+				try {
+					// drop anything past the resume point (or everything, for a fresh download)
+					try {
+						raf.setLength(offset);
+					}
+					catch (IOException e) {
+						throw new LocalIOException(e.getMessage(), e);
+					}
+					final FileChannel channel = raf.getChannel();
+					ChannelTransfer transfer = new ChannelTransfer();
+					transfer.setProgressListener(new ChannelTransfer.ProgressListener() {
+						public void progress(long position) throws IOException {
+							checkpoint.update(channel, position);
+						}
+					});
+					transfer.transfer(source, channel, offset, digest);
+				}
+				finally { raf.close(); }
+			}
+		}
+		catch (LocalIOException ioException) {
+			throw new LocalIOException("Error encountered while writing to file: " +
+						newfile.getPath() + " ; reason was: " +
+						ioException.getMessage(), ioException);
 		}
 		catch (IOException ioException) {
-			throw new IOException("Error encountered while writing to file: " +
+			throw new IOException("Error encountered while downloading to file: " +
 						newfile.getPath() + " ; reason was: " +
 						ioException.getMessage());
 		}
 		
-		String correctHash = Util.getFileHash(newfile.getPath());
+		String correctHash = Util.asHex(digest.digest());
 		if (correctHash.equals(signature)) {
-			sqliteDLDatabase.updateFilePath(correctHash, newfile.getPath());
-			sqliteDLDatabase.updateDownloadStatus(correctHash, 1);
+			if (!sqliteDLDatabase.completeDownload(correctHash, newfile.getPath(), null))
+				throw new LocalIOException("Entry for file " + signature + " was removed while it was downloading");
+			storageLedger.complete(probe.getTotalLength());
 		}
 		else {
 			// Uh-oh. Somebody made a mistake with the hash they
@@ -378,7 +694,7 @@ public class BTDownload {
 			// Clean up, and fail loudly.
 			l.warn("The provided signature " + signature +
 				" does not match the computed signature " + correctHash);
-			sqliteDLDatabase.deleteEntry(signature);
+			removeEntry(signature, true);
 			if(!newfile.delete())
 				l.warn("An error occurred while trying to delete: " +
 					newfile.getPath() + " ; manual cleanup may be required.");
@@ -387,6 +703,22 @@ public class BTDownload {
 		return correctHash;
 	}
 
+	/**
+	 * Decides how many parallel range requests to split a download into.
+	 * Falls back to a single stream if the origin does not accept byte ranges,
+	 * the length is unknown or the file is too small to be worth splitting.
+	 * @param probe
+	 * @param length number of bytes left to download
+	 * @return number of segments
+	 */
+	private int getSegmentCount(HttpProbe probe, long length) {
+		if (downloadSegments < 2 || length <= 0 || !probe.acceptsRanges())
+			return 1;
+		
+		long count = length / Math.max(1, minSegmentSize);
+		return (int) Math.max(1, Math.min(downloadSegments, count));
+	}
+	
 	/**
 	 * get length of a file to be downloaded by bt protocol
 	 * @param btUrl
@@ -416,14 +748,19 @@ public class BTDownload {
 		String url = items[1];
 		String torrentFilePath = items[2];
 		
-		String correctHash = Util.getFileHash(BTDownload.DOWNLOADFOLDER + File.separator +
-							signature);
+		final String path = BTDownload.DOWNLOADFOLDER + File.separator + signature;
+		// whole-file hashes are limited to the hash workers, so they do not swamp the disk
+		String correctHash = WorkerPools.getInstance().getHashPool().call(new Callable<String>() {
+			public String call() throws Exception {
+				return Util.getFileHash(path);
+			}
+		});
 		if (correctHash.equals(signature)) {
-			sqliteDLDatabase.updateFilePath(correctHash,
+			Entry e = sqliteDLDatabase.getEntry(correctHash);
+			if (sqliteDLDatabase.completeDownload(correctHash,
 							BTDownload.DOWNLOADFOLDER + File.separator +
-							correctHash);
-			sqliteDLDatabase.updateTorrentFilePath(correctHash, torrentFilePath);
-			sqliteDLDatabase.updateDownloadStatus(correctHash, 1);
+							correctHash, torrentFilePath) && e != null)
+				storageLedger.complete(e.getFilesize());
 		}
 		else {
 			// Uh-oh. Somebody made a mistake with the hash they
@@ -431,13 +768,33 @@ public class BTDownload {
 			// Clean up, and fail loudly.
 			l.warn("The provided signature " + signature +
 				" does not match the computed signature " + correctHash);
-			sqliteDLDatabase.deleteEntry(signature);
+			removeEntry(signature, true);
 			deleteImageBT(signature, torrentFilePath);
 		}
 		
 		return correctHash;
 	}
 	
+	/**
+	 * Records what it cost to bring a file into the cache, so that the cache policy
+	 * can weigh it when choosing what to evict. Failures are only logged, since the
+	 * file itself is fine.
+	 * @param signature
+	 * @param fetchTime time taken to download the file in milliseconds, or -1 if not measured
+	 * @param registerTime time taken to register its image in milliseconds, or -1 if not measured
+	 */
+	public void recordCost(String signature, long fetchTime, long registerTime) {
+		try {
+			if (fetchTime >= 0)
+				sqliteDLDatabase.updateFetchTime(signature, fetchTime);
+			if (registerTime >= 0)
+				sqliteDLDatabase.updateRegisterTime(signature, registerTime);
+		}
+		catch (SQLException e) {
+			l.warn("Could not record the cost of file " + signature + ": " + e.getMessage());
+		}
+	}
+	
 	/**
 	 * Function to be called once the downloaded file is no longer referenced.
 	 * This is put the current image into the pool of image that can be, if required, deleted.
@@ -450,6 +807,8 @@ public class BTDownload {
 	
 	/**
 	 * This function clears all the incomplete files and corresponding database entries.
+	 * Interrupted http downloads that can be resumed are kept, and parked so that
+	 * the next request for them picks up where they left off.
 	 * @return true - if anything needed to be done
 	 * @return false - otherwise
 	 * @throws Exception
@@ -473,10 +832,19 @@ public class BTDownload {
 					l.error("Couldn't delete file " + e.getFilePath());
 				}
 			}else{
-				File file = new File(e.getFilePath());
-				boolean result = file.delete();
-				if (!result){
-					l.error("Couldn't delete file " + e.getFilePath());
+				// http downloads are written in place; the path in the entry
+				// is only filled in once they are complete
+				File file = new File(BTDownload.DOWNLOADFOLDER + File.separator + e.getSignature());
+				
+				if (isResumable(e, file)) {
+					sqliteDLDatabase.markResumable(e.getSignature(), file.getPath());
+					l.info("File (" + e.getSignature() + ") (" + e.getBytesCommitted() + " of " +
+						e.getFilesize() + " bytes) is kept to be resumed");
+					continue;
+				}
+				
+				if (file.exists() && !file.delete()){
+					l.error("Couldn't delete file " + file.getPath());
 				}
 			}
 			
@@ -493,6 +861,59 @@ public class BTDownload {
 		return true;
 	}
 	
+	/**
+	 * @param e entry of an interrupted download; may be null
+	 * @return true if the whole file is known to be on disk
+	 */
+	private static boolean isFullyWritten(Entry e) {
+		if (e == null || e.getFilesize() <= 0 || e.getBytesCommitted() < e.getFilesize())
+			return false;
+		File file = new File(BTDownload.DOWNLOADFOLDER + File.separator + e.getSignature());
+		return file.isFile() && file.length() >= e.getFilesize();
+	}
+	
+	/**
+	 * Completes a download that was written to the end by an earlier run, if the file
+	 * has the right signature. Otherwise the file is to be downloaded again from the start.
+	 * Its space is still accounted to it either way.
+	 * @param signature
+	 * @return true if the file is verified and complete
+	 * @throws Exception
+	 */
+	private boolean verifyWrittenFile(String signature) throws Exception {
+		final String path = BTDownload.DOWNLOADFOLDER + File.separator + signature;
+		l.info("File (" + signature + ") was written completely before it was interrupted; verifying it");
+		String correctHash = WorkerPools.getInstance().getHashPool().call(new Callable<String>() {
+			public String call() throws Exception {
+				return Util.getFileHash(path);
+			}
+		});
+		if (!correctHash.equals(signature)) {
+			l.warn("File (" + signature + ") has the signature " + correctHash + "; downloading it again");
+			sqliteDLDatabase.updateBytesCommitted(signature, 0);
+			return false;
+		}
+		if (!sqliteDLDatabase.completeDownload(signature, path, null))
+			throw new LocalIOException("Entry for file " + signature + " was removed while it was verified");
+		l.info("File (" + signature + ") verified");
+		return true;
+	}
+	
+	/**
+	 * An interrupted download can be resumed if part of it is known to be on disk,
+	 * and the origin gave us a validator to check that the file has not changed since.
+	 * @param e
+	 * @param file
+	 * @return true if the download can be resumed
+	 */
+	private static boolean isResumable(Entry e, File file) {
+		if (e.getBytesCommitted() <= 0)
+			return false;
+		if (e.getEtag() == null && e.getLastModified() == null)
+			return false;
+		return file.isFile() && file.length() >= e.getBytesCommitted();
+	}
+	
 	/**
 	 * This function deletes all the incomplete files.
 	 */
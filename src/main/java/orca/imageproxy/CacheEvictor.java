@@ -0,0 +1,101 @@
+package orca.imageproxy;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Frees cache space in the background, so that requests rarely have to evict files themselves.
+ * Whenever the space allocated in the cache rises above the high watermark, files are evicted
+ * until it is back under the low watermark. The evictor also looks at the cache periodically,
+ * in case a wake-up was missed while it was busy.
+ */
+public class CacheEvictor implements Runnable {
+
+	// how often the cache is looked at without being asked to, in milliseconds
+	public static final long CHECK_INTERVAL = 60000;
+
+	private Logger l;
+
+	private final BTDownload btDownload;
+	private final StorageLedger storageLedger;
+	private final long highWatermark;
+	private final long lowWatermark;
+
+	// set when the cache went over the high watermark, guarded by this
+	private boolean pending = false;
+
+	/**
+	 * @param btDownload
+	 * @param storageLedger
+	 * @param highWatermark allocated bytes above which eviction starts
+	 * @param lowWatermark allocated bytes eviction brings the cache back down to
+	 */
+	public CacheEvictor(BTDownload btDownload, StorageLedger storageLedger,
+			long highWatermark, long lowWatermark) {
+		l = Logger.getLogger(this.getClass());
+		this.btDownload = btDownload;
+		this.storageLedger = storageLedger;
+		this.highWatermark = highWatermark;
+		this.lowWatermark = lowWatermark;
+	}
+
+	/**
+	 * Starts the eviction thread.
+	 */
+	public void start() {
+		Thread thread = new Thread(this, "cache-evictor");
+		thread.setDaemon(true);
+		thread.start();
+		check();
+	}
+
+	/**
+	 * Wakes the eviction thread if the cache is above the high watermark. Cheap enough to
+	 * call after every reservation.
+	 */
+	public void check() {
+		if (storageLedger.getAllocated() <= highWatermark)
+			return;
+		synchronized (this) {
+			pending = true;
+			notifyAll();
+		}
+	}
+
+	public void run() {
+		while (true) {
+			synchronized (this) {
+				while (!pending) {
+					try {
+						wait(CHECK_INTERVAL);
+					}
+					catch (InterruptedException e) {
+						l.info("Cache evictor stopped");
+						return;
+					}
+					if (storageLedger.getAllocated() > highWatermark)
+						pending = true;
+				}
+				pending = false;
+			}
+			evictToLowWatermark();
+		}
+	}
+
+	private void evictToLowWatermark() {
+		l.info("Download cache " + storageLedger + "; evicting down to " + lowWatermark + " bytes");
+
+		long start = System.currentTimeMillis();
+		int count = 0;
+		try {
+			// files still being downloaded hold space too, so there may be nothing left to evict
+			while (storageLedger.getAllocated() > lowWatermark && btDownload.evictOne())
+				count++;
+		}
+		catch (Exception e) {
+			l.error("Background eviction failed: " + e.getMessage(), e);
+		}
+
+		l.info("Evicted " + count + " files in " + (System.currentTimeMillis() - start) +
+			" ms; download cache " + storageLedger);
+	}
+}
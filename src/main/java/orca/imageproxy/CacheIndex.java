@@ -0,0 +1,317 @@
+package orca.imageproxy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+
+/**
+ * In-memory mirror of the FILE table, kept up to date by SqliteDLDatabase as it writes
+ * through to SQLite, and rebuilt from the table at startup.
+ * Entries that may be evicted (finished or partial downloads nobody references) are
+ * offered to a CachePolicy, which keeps them in its own order, so looking up, touching
+ * and picking a victim do not depend on a scan of the cache.
+ * The index also counts how many requests found their file already cached.
+ */
+public class CacheIndex {
+
+	public static final String cachePolicyProperty = "imageproxy.cache.policy";
+
+	private final Map<String, Entry> entries = new HashMap<String, Entry>();
+
+	private final CachePolicy policy;
+
+	private long totalSize = 0;
+
+	// requests served from the cache, and requests that had to download
+	private long hits = 0;
+	private long misses = 0;
+
+	public CacheIndex() {
+		this(new LruPolicy());
+	}
+
+	public CacheIndex(CachePolicy policy) {
+		this.policy = policy;
+	}
+
+	/**
+	 * Creates the policy with the given name.
+	 * @param name one of LRU, LFU, ARC or GDSF; case is ignored
+	 * @return the policy, or LRU if the name is unknown or missing
+	 */
+	public static CachePolicy createPolicy(String name) {
+		if (name != null) {
+			name = name.trim();
+			if (LfuPolicy.NAME.equalsIgnoreCase(name))
+				return new LfuPolicy();
+			if (ArcPolicy.NAME.equalsIgnoreCase(name))
+				return new ArcPolicy();
+			if (GdsfPolicy.NAME.equalsIgnoreCase(name))
+				return new GdsfPolicy();
+			if (name.length() > 0 && !LruPolicy.NAME.equalsIgnoreCase(name)) {
+				Logger logger = Logger.getLogger(CacheIndex.class);
+				logger.error("Invalid value specified for property: " + cachePolicyProperty);
+				logger.error("Falling back to default value (" + LruPolicy.NAME + ").");
+			}
+		}
+		return new LruPolicy();
+	}
+
+	/**
+	 * @param signature
+	 * @return a copy of the entry, or null if there is none
+	 */
+	public synchronized Entry get(String signature) {
+		Entry e = entries.get(signature);
+		return (e == null) ? null : new Entry(e);
+	}
+
+	public synchronized boolean contains(String signature) {
+		return entries.containsKey(signature);
+	}
+
+	/**
+	 * @param signature
+	 * @return true if the entry exists and may be evicted
+	 */
+	public synchronized boolean isEvictable(String signature) {
+		Entry e = entries.get(signature);
+		return e != null && isEvictable(e);
+	}
+
+	/**
+	 * Adds or replaces an entry. Entries added in order of last reference keep that order.
+	 * @param e
+	 */
+	public synchronized void put(Entry e) {
+		Entry copy = new Entry(e);
+		Entry old = entries.put(copy.getSignature(), copy);
+		if (old != null) {
+			totalSize -= old.getFilesize();
+			policy.removed(old);
+		}
+		totalSize += copy.getFilesize();
+		policy.added(copy);
+		if (isEvictable(copy))
+			policy.offer(copy);
+	}
+
+	public synchronized void remove(String signature) {
+		Entry e = entries.remove(signature);
+		if (e == null)
+			return;
+		totalSize -= e.getFilesize();
+		policy.removed(e);
+	}
+
+	/**
+	 * Records a new reference to an entry; referenced entries cannot be evicted.
+	 * @param signature
+	 * @param time
+	 */
+	public synchronized void reference(String signature, long time) {
+		Entry e = entries.get(signature);
+		if (e == null)
+			return;
+		e.setActiveRef(e.getActiveRef() + 1);
+		e.setLastRef(time);
+		policy.withdraw(e);
+	}
+
+	/**
+	 * Records a request that was served from the cache.
+	 * @param signature
+	 * @param time
+	 */
+	public synchronized void hit(String signature, long time) {
+		Entry e = entries.get(signature);
+		if (e == null)
+			return;
+		hits++;
+		e.setHits(e.getHits() + 1);
+		reference(signature, time);
+		policy.accessed(e);
+	}
+
+	/**
+	 * Records a request that was answered from memory, without taking a reference to the
+	 * file, as a use of it. The file is ranked as if it had been referenced and released.
+	 * @param signature
+	 * @param time
+	 */
+	public synchronized void touch(String signature, long time) {
+		Entry e = entries.get(signature);
+		if (e == null)
+			return;
+		hits++;
+		e.setHits(e.getHits() + 1);
+		e.setLastRef(time);
+		policy.accessed(e);
+		if (isEvictable(e)) {
+			policy.withdraw(e);
+			policy.offer(e);
+		}
+	}
+
+	/**
+	 * Records a request that had to download its file.
+	 */
+	public synchronized void miss() {
+		misses++;
+	}
+
+	/**
+	 * Drops a reference to an entry. An entry that is no longer referenced becomes
+	 * the most recently used candidate for eviction.
+	 * @param signature
+	 * @param time
+	 */
+	public synchronized void release(String signature, long time) {
+		Entry e = entries.get(signature);
+		if (e == null || e.getActiveRef() <= 0)
+			return;
+		e.setActiveRef(e.getActiveRef() - 1);
+		e.setLastRef(time);
+		if (isEvictable(e))
+			policy.offer(e);
+	}
+
+	public synchronized void setFilesize(String signature, long filesize) {
+		Entry e = entries.get(signature);
+		if (e == null)
+			return;
+		totalSize += filesize - e.getFilesize();
+		e.setFilesize(filesize);
+		if (isEvictable(e))
+			policy.offer(e);
+	}
+
+	/**
+	 * Records what it cost to bring a file into the cache.
+	 * @param signature
+	 * @param fetchTime time taken to download the file, in milliseconds; ignored if negative
+	 * @param registerTime time taken to register its image, in milliseconds; ignored if negative
+	 */
+	public synchronized void setCost(String signature, long fetchTime, long registerTime) {
+		Entry e = entries.get(signature);
+		if (e == null)
+			return;
+		if (fetchTime >= 0)
+			e.setFetchTime(fetchTime);
+		if (registerTime >= 0)
+			e.setRegisterTime(registerTime);
+		if (isEvictable(e))
+			policy.offer(e);
+	}
+
+	public synchronized void setFilePath(String signature, String filePath) {
+		Entry e = entries.get(signature);
+		if (e != null)
+			e.setFilePath(filePath);
+	}
+
+	public synchronized void setTorrentFilePath(String signature, String torrentFilePath) {
+		Entry e = entries.get(signature);
+		if (e != null)
+			e.setTorrentFilePath(torrentFilePath);
+	}
+
+	public synchronized void setStatus(String signature, int status) {
+		Entry e = entries.get(signature);
+		if (e == null)
+			return;
+		e.setStatus(status);
+		if (isEvictable(e))
+			policy.offer(e);
+		else
+			policy.withdraw(e);
+	}
+
+	/**
+	 * Records a finished download.
+	 * @param signature
+	 * @param filePath
+	 * @param torrentFilePath null to leave it unchanged
+	 */
+	public synchronized void complete(String signature, String filePath, String torrentFilePath) {
+		Entry e = entries.get(signature);
+		if (e == null)
+			return;
+		e.setFilePath(filePath);
+		if (torrentFilePath != null)
+			e.setTorrentFilePath(torrentFilePath);
+		setStatus(signature, SqliteDLDatabase.STATUS_COMPLETE);
+	}
+
+	/**
+	 * Records an interrupted download that is kept to be resumed; nobody references it anymore.
+	 * @param signature
+	 * @param filePath location of the partial file
+	 */
+	public synchronized void park(String signature, String filePath) {
+		Entry e = entries.get(signature);
+		if (e == null)
+			return;
+		e.setFilePath(filePath);
+		e.setActiveRef(0);
+		setStatus(signature, SqliteDLDatabase.STATUS_PARTIAL);
+	}
+
+	/**
+	 * @return a copy of the evictable entry the policy picks, or null if there is none
+	 */
+	public synchronized Entry getMostStale() {
+		Entry e = policy.victim();
+		return (e == null) ? null : new Entry(e);
+	}
+
+	public CachePolicy getPolicy() {
+		return policy;
+	}
+
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return the fraction of requests served from the cache, or 0 before the first request
+	 */
+	public synchronized double getHitRatio() {
+		long requests = hits + misses;
+		return (requests == 0) ? 0 : (double) hits / requests;
+	}
+
+	/**
+	 * @return the sum of the sizes of all entries
+	 */
+	public synchronized long getTotalSize() {
+		return totalSize;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		policy.clear();
+		totalSize = 0;
+	}
+
+	public synchronized String toString() {
+		return policy.getName() + " cache of " + entries.size() + " files (" + totalSize +
+			" bytes): " + hits + " hits, " + misses + " misses, hit ratio " +
+			Math.round(getHitRatio() * 1000) / 10.0 + "%";
+	}
+
+	private static boolean isEvictable(Entry e) {
+		return e.getActiveRef() == 0 &&
+			(e.getStatus() == SqliteDLDatabase.STATUS_COMPLETE ||
+			 e.getStatus() == SqliteDLDatabase.STATUS_PARTIAL);
+	}
+}
@@ -0,0 +1,57 @@
+package orca.imageproxy;
+
+/**
+ * Decides which file leaves the download cache when space is needed.
+ * A policy is driven by CacheIndex, under the index's lock, and only ever sees
+ * the index's own entries; it never has to be thread safe by itself.
+ * Only entries currently offered as candidates may be returned as victims.
+ */
+public interface CachePolicy {
+
+	/**
+	 * @return the name the policy is selected by in imageproxy-settings.properties
+	 */
+	String getName();
+
+	/**
+	 * An entry entered the cache, either because it was requested and not found,
+	 * or because the index was loaded from the database.
+	 * @param e
+	 */
+	void added(Entry e);
+
+	/**
+	 * An entry in the cache was requested again.
+	 * @param e
+	 */
+	void accessed(Entry e);
+
+	/**
+	 * An entry became a candidate for eviction, or its candidacy has to be re-evaluated
+	 * because its size or cost changed.
+	 * @param e
+	 */
+	void offer(Entry e);
+
+	/**
+	 * An entry stopped being a candidate for eviction, e.g. because it is in use.
+	 * @param e
+	 */
+	void withdraw(Entry e);
+
+	/**
+	 * An entry left the cache.
+	 * @param e
+	 */
+	void removed(Entry e);
+
+	/**
+	 * @return the candidate that should be evicted next, or null if there is none
+	 */
+	Entry victim();
+
+	/**
+	 * Forgets everything.
+	 */
+	void clear();
+}
@@ -0,0 +1,233 @@
+package orca.imageproxy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Copies the body of a download from a network channel into a file channel,
+ * letting the JVM move the data in large chunks rather than a byte at a time.
+ * Keeps track of the amount of data moved so that the transfer rate can be reported.
+ */
+public class ChannelTransfer {
+
+	// the number of bytes requested from a single transferFrom call
+	public static final long CHUNK_SIZE = 8L * 1024 * 1024;
+
+	// length value meaning "until the source reaches end of stream"
+	public static final long UNBOUNDED = -1;
+
+	// size of the buffer used when the data has to pass through a digest
+	private static final int DIGEST_BUFFER_SIZE = 1024 * 1024;
+
+	// how often progress is logged during a transfer, in milliseconds
+	private static final long PROGRESS_INTERVAL = 30000;
+
+	private Logger l;
+
+	private long bytesTransferred = 0;
+	private long elapsedMillis = 0;
+
+	private ProgressListener progressListener;
+
+	/**
+	 * Notified after every chunk that has been written to the destination.
+	 */
+	public interface ProgressListener {
+		/**
+		 * @param position offset in the destination up to which data has been written
+		 * @throws IOException
+		 */
+		void progress(long position) throws IOException;
+	}
+
+	public ChannelTransfer() {
+		l = Logger.getLogger(this.getClass());
+	}
+
+	/**
+	 * Copies everything readable from the source into the destination, starting at the given position.
+	 * @param source
+	 * @param destination
+	 * @param position offset in the destination file at which to start writing
+	 * @return number of bytes transferred
+	 * @throws IOException
+	 */
+	public long transfer(ReadableByteChannel source, FileChannel destination, long position)
+	throws IOException {
+		return transfer(source, destination, position, null);
+	}
+
+	/**
+	 * Copies everything readable from the source into the destination, starting at the given position.
+	 * If a digest is supplied, every byte is fed into it on its way to the file,
+	 * so that the hash is available as soon as the last byte has been written.
+	 * @param source
+	 * @param destination
+	 * @param position offset in the destination file at which to start writing
+	 * @param digest digest to update with the transferred data; may be null
+	 * @return number of bytes transferred
+	 * @throws IOException
+	 */
+	public long transfer(ReadableByteChannel source, FileChannel destination, long position,
+			MessageDigest digest)
+	throws IOException {
+		return transfer(source, destination, position, UNBOUNDED, digest);
+	}
+
+	/**
+	 * Copies at most length bytes from the source into the destination, starting at the given position.
+	 * Used when only part of a response body belongs to the caller (e.g. one segment of a larger file).
+	 * A failure to write the destination, or of the progress listener, is a LocalIOException;
+	 * a failure to read the source is passed on as it is.
+	 * @param source
+	 * @param destination
+	 * @param position offset in the destination file at which to start writing
+	 * @param length maximum number of bytes to copy, or UNBOUNDED to copy until end of stream
+	 * @param digest digest to update with the transferred data; may be null
+	 * @return number of bytes transferred
+	 * @throws IOException
+	 */
+	public long transfer(ReadableByteChannel source, FileChannel destination, long position,
+			long length, MessageDigest digest)
+	throws IOException {
+		long start = System.currentTimeMillis();
+		long lastReport = start;
+		long transferred = 0;
+		long count;
+		ByteBuffer buffer = null;
+		if (digest != null)
+			buffer = ByteBuffer.allocate(DIGEST_BUFFER_SIZE);
+		SourceChannel from = new SourceChannel(source);
+
+		try {
+			// transferFrom returns 0 once the source has reached end of stream;
+			// the digesting path has to see the data, so it goes through a buffer instead
+			while (transferred != length &&
+					(count = (digest == null) ?
+						destination.transferFrom(from, position + transferred,
+							chunk(CHUNK_SIZE, transferred, length)) :
+						digestingCopy(from, destination, position + transferred, buffer,
+							(int) chunk(DIGEST_BUFFER_SIZE, transferred, length), digest)) > 0) {
+				transferred += count;
+
+				if (progressListener != null)
+					progressListener.progress(position + transferred);
+
+				long now = System.currentTimeMillis();
+				if (now - lastReport >= PROGRESS_INTERVAL) {
+					l.info("Transferred " + transferred + " bytes so far (" +
+						formatRate(transferred, now - start) + ")");
+					lastReport = now;
+				}
+			}
+		}
+		catch (IOException e) {
+			if (from.failed || e instanceof LocalIOException)
+				throw e;
+			throw new LocalIOException("Could not write at " + (position + transferred) +
+				" ; reason was: " + e.getMessage(), e);
+		}
+
+		bytesTransferred += transferred;
+		elapsedMillis += System.currentTimeMillis() - start;
+
+		l.info("Transferred " + transferred + " bytes in " +
+			(System.currentTimeMillis() - start) + " ms (" +
+			formatRate(transferred, System.currentTimeMillis() - start) + ")");
+
+		return transferred;
+	}
+
+	/**
+	 * Fills the buffer once from the source, feeds it to the digest and writes it out.
+	 * @return number of bytes copied, 0 at end of stream
+	 * @throws IOException
+	 */
+	private static long digestingCopy(ReadableByteChannel source, FileChannel destination,
+			long position, ByteBuffer buffer, int limit, MessageDigest digest)
+	throws IOException {
+		buffer.clear();
+		buffer.limit(limit);
+		int count = source.read(buffer);
+		if (count <= 0)
+			return 0;
+
+		digest.update(buffer.array(), 0, count);
+
+		buffer.flip();
+		long written = 0;
+		while (buffer.hasRemaining())
+			written += destination.write(buffer, position + written);
+
+		return count;
+	}
+
+	/**
+	 * @return how much to ask for next, without running past the requested length
+	 */
+	private static long chunk(long size, long transferred, long length) {
+		if (length == UNBOUNDED)
+			return size;
+		return Math.min(size, length - transferred);
+	}
+
+	/**
+	 * The source of a transfer, remembering whether reading it failed, so that a failure
+	 * of the source can be told from one of the destination.
+	 */
+	private static class SourceChannel implements ReadableByteChannel {
+
+		private final ReadableByteChannel source;
+		private boolean failed = false;
+
+		SourceChannel(ReadableByteChannel source) {
+			this.source = source;
+		}
+
+		public int read(ByteBuffer dst) throws IOException {
+			try {
+				return source.read(dst);
+			}
+			catch (IOException e) {
+				failed = true;
+				throw e;
+			}
+		}
+
+		public boolean isOpen() {
+			return source.isOpen();
+		}
+
+		public void close() throws IOException {
+			source.close();
+		}
+	}
+
+	public void setProgressListener(ProgressListener progressListener) {
+		this.progressListener = progressListener;
+	}
+
+	public long getBytesTransferred() {
+		return bytesTransferred;
+	}
+
+	/**
+	 * @return average rate of the transfers performed so far, in bytes per second
+	 */
+	public long getBytesPerSecond() {
+		if (elapsedMillis <= 0)
+			return bytesTransferred;
+		return (bytesTransferred * 1000) / elapsedMillis;
+	}
+
+	private static String formatRate(long bytes, long millis) {
+		if (millis <= 0)
+			millis = 1;
+		return ((bytes * 1000) / millis) + " bytes/sec";
+	}
+}
@@ -0,0 +1,256 @@
+package orca.imageproxy;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A small pool of open connections to one SQLite database.
+ * Connections handed out look like plain JDBC connections; closing one returns it
+ * to the pool instead, so callers keep the usual getConnection() / close() pattern.
+ * Every connection gets the configured pragmas when it is opened.
+ * Statements prepared on a pooled connection are kept with it, so a query that is run
+ * again on that connection is neither parsed nor planned again; closing such a statement
+ * only clears its parameters.
+ * A pool of size 0 opens a new connection for every caller and closes it afterwards.
+ */
+public class ConnectionPool {
+
+	// prepared statements kept per connection; the least recently used go beyond this
+	public static final int STATEMENT_CACHE_SIZE = 64;
+
+	private final String url;
+	private final int size;
+	private final List<String> pragmas;
+
+	// idle connections, most recently used first; guarded by this
+	private final LinkedList<PooledConnection> idle = new LinkedList<PooledConnection>();
+	private int open = 0;
+
+	/**
+	 * @param url JDBC url of the database
+	 * @param size maximum number of open connections; 0 disables pooling
+	 * @param pragmas statements to run on every new connection
+	 */
+	public ConnectionPool(String url, int size, List<String> pragmas) {
+		this.url = url;
+		this.size = size;
+		this.pragmas = pragmas;
+	}
+
+	/**
+	 * Hands out a connection, waiting for one to be returned if all of them are in use.
+	 * @return connection, to be closed by the caller
+	 * @throws SQLException
+	 */
+	public Connection getConnection() throws SQLException {
+		if (size <= 0)
+			return openConnection();
+
+		PooledConnection connection = null;
+		synchronized (this) {
+			while (idle.isEmpty() && open >= size) {
+				try {
+					wait();
+				}
+				catch (InterruptedException e) {
+					throw new SQLException("Interrupted while waiting for a database connection");
+				}
+			}
+			if (!idle.isEmpty())
+				connection = idle.removeFirst();
+			else
+				open++;
+		}
+
+		if (connection == null) {
+			try {
+				connection = new PooledConnection(openConnection());
+			}
+			catch (SQLException e) {
+				discarded();
+				throw e;
+			}
+		}
+		return wrap(connection);
+	}
+
+	/**
+	 * Closes the idle connections; connections in use are closed when they are returned.
+	 */
+	public synchronized void close() {
+		while (!idle.isEmpty()) {
+			idle.removeFirst().close();
+			open--;
+		}
+	}
+
+	private Connection openConnection() throws SQLException {
+		Connection connection = DriverManager.getConnection(url);
+		try {
+			Statement statement = connection.createStatement();
+			try {
+				statement.setQueryTimeout(Globals.JDBC_OPERATION_TIMEOUT);
+				for (String pragma : pragmas)
+					statement.execute(pragma);
+			}
+			finally { statement.close(); }
+		}
+		catch (SQLException e) {
+			closeQuietly(connection);
+			throw e;
+		}
+		return connection;
+	}
+
+	/**
+	 * Takes back a connection, leaving it ready for the next caller.
+	 */
+	private void release(PooledConnection pooled) {
+		try {
+			if (!pooled.connection.getAutoCommit()) {
+				pooled.connection.rollback();
+				pooled.connection.setAutoCommit(true);
+			}
+		}
+		catch (SQLException e) {
+			pooled.close();
+			discarded();
+			return;
+		}
+
+		synchronized (this) {
+			idle.addFirst(pooled);
+			notifyAll();
+		}
+	}
+
+	private synchronized void discarded() {
+		open--;
+		notifyAll();
+	}
+
+	private static void closeQuietly(Statement statement) {
+		try {
+			statement.close();
+		}
+		catch (SQLException e) {
+			;
+		}
+	}
+
+	private static void closeQuietly(Connection connection) {
+		try {
+			connection.close();
+		}
+		catch (SQLException e) {
+			;
+		}
+	}
+
+	/**
+	 * @return a view of the connection whose close() gives it back to the pool
+	 */
+	private Connection wrap(final PooledConnection pooled) {
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[] { Connection.class }, new InvocationHandler() {
+
+			private boolean closed = false;
+
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				String name = method.getName();
+				if (name.equals("close")) {
+					if (!closed) {
+						closed = true;
+						release(pooled);
+					}
+					return null;
+				}
+				if (name.equals("isClosed"))
+					return Boolean.valueOf(closed || pooled.connection.isClosed());
+				if (closed)
+					throw new SQLException("Connection has been returned to the pool");
+				if (name.equals("prepareStatement") && args.length == 1)
+					return pooled.prepareStatement((String) args[0]);
+				try {
+					return method.invoke(pooled.connection, args);
+				}
+				catch (InvocationTargetException e) {
+					throw e.getCause();
+				}
+			}
+		});
+	}
+
+	/**
+	 * An open connection, together with the statements prepared on it.
+	 */
+	private static class PooledConnection {
+
+		final Connection connection;
+
+		// least recently used first
+		private final LinkedHashMap<String, PreparedStatement> statements =
+			new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true);
+
+		PooledConnection(Connection connection) {
+			this.connection = connection;
+		}
+
+		/**
+		 * @return the cached statement for the sql, prepared on first use
+		 */
+		PreparedStatement prepareStatement(String sql) throws SQLException {
+			PreparedStatement statement = statements.get(sql);
+			if (statement == null) {
+				statement = connection.prepareStatement(sql);
+				statements.put(sql, statement);
+				if (statements.size() > STATEMENT_CACHE_SIZE) {
+					Iterator<PreparedStatement> itr = statements.values().iterator();
+					closeQuietly(itr.next());
+					itr.remove();
+				}
+			}
+			return wrap(statement);
+		}
+
+		void close() {
+			for (PreparedStatement statement : statements.values())
+				closeQuietly(statement);
+			statements.clear();
+			closeQuietly(connection);
+		}
+
+		/**
+		 * @return a view of the statement whose close() keeps it for the next caller
+		 */
+		private static PreparedStatement wrap(final PreparedStatement statement) {
+			return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+					new Class<?>[] { PreparedStatement.class }, new InvocationHandler() {
+
+				public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+					if (method.getName().equals("close")) {
+						statement.clearParameters();
+						return null;
+					}
+					try {
+						return method.invoke(statement, args);
+					}
+					catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package orca.imageproxy;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Deletes the images of evicted files in the background.
+ * Evicting a file only moves its image into the DEREGISTER table; a single thread then
+ * hands the queued image ids to the deregistration script in batches, so the cost of
+ * setting up the cloud tools is paid once per batch and never on a request's path.
+ * Since the queue lives in the database, images queued before a restart are still deleted.
+ */
+public class DeregistrationQueue implements Runnable {
+
+	private static final String batchSizeProperty = "imageproxy.deregister.batchSize";
+	private static final String maxAttemptsProperty = "imageproxy.deregister.maxAttempts";
+
+	// how long to wait before looking at the queue again, in milliseconds
+	public static final long RETRY_INTERVAL = 60000;
+
+	// how long to let images collect after one is queued, so evictions in a row share a batch
+	public static final long BATCH_DELAY = 5000;
+
+	private static DeregistrationQueue deregistrationQueue;
+
+	private Logger l;
+
+	private final SqliteDatabase db;
+	private final DeregistrationScript deregistrationScript;
+
+	private int batchSize = 20;
+	private int maxAttempts = 5;
+
+	// set when something was queued, guarded by this
+	private boolean pending = true;
+
+	public synchronized static DeregistrationQueue getInstance() throws Exception {
+		if (deregistrationQueue == null) {
+			deregistrationQueue = new DeregistrationQueue();
+			Thread thread = new Thread(deregistrationQueue, "deregistration");
+			thread.setDaemon(true);
+			thread.start();
+		}
+		return deregistrationQueue;
+	}
+
+	private DeregistrationQueue() throws Exception {
+		l = Logger.getLogger(this.getClass());
+		db = SqliteDatabase.getInstance();
+		deregistrationScript = new DeregistrationScript();
+		batchSize = (int) Math.max(1, Globals.getInstance().getLongProperty(batchSizeProperty, batchSize));
+		maxAttempts = (int) Math.max(1, Globals.getInstance().getLongProperty(maxAttemptsProperty, maxAttempts));
+	}
+
+	/**
+	 * Queues the image registered for a signature for deletion.
+	 * @param signature
+	 * @return true if an image was queued
+	 * @throws Exception
+	 */
+	public boolean enqueue(String signature) throws Exception {
+		String imageId = db.queueDeregistration(signature);
+		if (imageId == null) {
+			// Image doesn't exist in the database; already deleted?
+			l.info("No registered image to delete for signature " + signature);
+			return false;
+		}
+
+		l.info("Image " + imageId + " (signature " + signature + ") queued for deregistration");
+		synchronized (this) {
+			pending = true;
+			notifyAll();
+		}
+		return true;
+	}
+
+	public void run() {
+		while (true) {
+			synchronized (this) {
+				try {
+					// failed images are retried after the interval, even if nothing new arrives
+					if (!pending)
+						wait(RETRY_INTERVAL);
+				}
+				catch (InterruptedException e) {
+					l.info("Deregistration queue stopped");
+					return;
+				}
+				pending = false;
+			}
+
+			try {
+				Thread.sleep(BATCH_DELAY);
+				drain();
+			}
+			catch (InterruptedException e) {
+				l.info("Deregistration queue stopped");
+				return;
+			}
+			catch (Exception e) {
+				l.error("Error while deregistering queued images: " + e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * Deregisters queued images, a batch at a time, until the queue is empty or a batch fails.
+	 * Images in a failed batch are retried one by one, so one bad image does not hold up the
+	 * rest; those that still fail wait for the next round.
+	 * A batch may fail after some of its images were deleted; the scripts count an image
+	 * that is already gone as deleted, so those are not retried until given up on.
+	 */
+	private void drain() throws Exception {
+		while (true) {
+			List<String> imageIds = db.getQueuedDeregistrations(batchSize);
+			if (imageIds.isEmpty())
+				return;
+
+			if (deregistrationScript.deregisterImages(imageIds)) {
+				for (String imageId : imageIds)
+					db.removeQueuedDeregistration(imageId);
+				l.info("Deregistered " + imageIds.size() + " images");
+				continue;
+			}
+
+			int failed = 0;
+			for (String imageId : imageIds) {
+				if (imageIds.size() > 1 &&
+						deregistrationScript.deregisterImages(Collections.singletonList(imageId))) {
+					db.removeQueuedDeregistration(imageId);
+					continue;
+				}
+				failed++;
+				if (!db.failQueuedDeregistration(imageId, maxAttempts))
+					l.error("Giving up on deregistering image " + imageId + " after " +
+						maxAttempts + " attempts; manual cleanup may be required.");
+				else
+					l.warn("Could not deregister image " + imageId + "; will retry");
+			}
+			if (failed > 0)
+				return;
+		}
+	}
+}
@@ -3,6 +3,8 @@ package orca.imageproxy;
 import java.io.File;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 
 import org.apache.log4j.Logger;
@@ -41,10 +43,6 @@ public class DeregistrationScript {
         l.info("Deregistering image.");
         l.info("Image signature: " + signature);
 		
-        String deregisterScript = Globals.getInstance().getProperties().getProperty(deregisterScriptProperty);
-        if (deregisterScript == null || deregisterScript.length() == 0)
-            deregisterScript = DEFAULT_DEREGISTER_SCRIPT;
-        
         // Type isn't needed. We'll fake it.
         String imageId = db.checkImageSignature(signature, "foo", false);
 
@@ -55,18 +53,7 @@ public class DeregistrationScript {
             return false;
         }
 
-        // deregistration script
-        String command =
-            BTDownload.imageproxyHome + File.separator + deregisterScript + " " + imageId;
-		
-        l.info("Invoking deregistration script");
-        l.debug(command);
-		
-        // invoking deregistration script
-        Process process = Runtime.getRuntime().exec(command);
-		
-        // checking if script ran successfully
-        if (process.waitFor() != 0) {
+        if (!deregisterImages(Collections.singletonList(imageId))) {
             l.error("Error encountered while attempting to deregister image with ID " +
                 imageId + " and signature " + signature);
             return false;
@@ -79,4 +66,35 @@ public class DeregistrationScript {
 
         return true;
     }
+
+    /**
+     * Deregisters and deletes a number of images with a single run of the deregistration script,
+     * so the cloud credentials are only set up once.
+     * @param imageIds
+     * @return true if all of them were deleted, false if the script failed for any of them
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    public boolean deregisterImages(List<String> imageIds)
+        throws IOException, InterruptedException {
+
+        String deregisterScript = Globals.getInstance().getProperties().getProperty(deregisterScriptProperty);
+        if (deregisterScript == null || deregisterScript.length() == 0)
+            deregisterScript = DEFAULT_DEREGISTER_SCRIPT;
+
+        // deregistration script
+        StringBuffer command = new StringBuffer(
+            BTDownload.imageproxyHome + File.separator + deregisterScript);
+        for (String imageId : imageIds)
+            command.append(" " + imageId);
+
+        l.info("Invoking deregistration script for " + imageIds.size() + " images");
+        l.debug(command);
+
+        // invoking deregistration script
+        Process process = Runtime.getRuntime().exec(command.toString());
+
+        // checking if script ran successfully
+        return process.waitFor() == 0;
+    }
 }
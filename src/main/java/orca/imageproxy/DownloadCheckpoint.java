@@ -0,0 +1,58 @@
+package orca.imageproxy;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.sql.SQLException;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Periodically records how much of an HTTP download has safely reached the disk,
+ * so that a download interrupted by a restart can be resumed from that point.
+ * The file is forced to disk before the progress is written to the FILE table,
+ * so the recorded length never runs ahead of the data.
+ */
+public class DownloadCheckpoint {
+
+	// minimum time between two checkpoints, in milliseconds
+	public static final long CHECKPOINT_INTERVAL = 10000;
+
+	private Logger l;
+
+	private final SqliteDLDatabase sqliteDLDatabase;
+	private final String signature;
+
+	private long lastCheckpoint;
+	private long committed;
+
+	public DownloadCheckpoint(SqliteDLDatabase sqliteDLDatabase, String signature, long committed) {
+		l = Logger.getLogger(this.getClass());
+		this.sqliteDLDatabase = sqliteDLDatabase;
+		this.signature = signature;
+		this.committed = committed;
+		this.lastCheckpoint = System.currentTimeMillis();
+	}
+
+	/**
+	 * Records the new length of the contiguous downloaded prefix, if a checkpoint is due.
+	 * A failure to record progress only costs the ability to resume, so it is logged and ignored.
+	 * @param channel the file being written
+	 * @param length length of the prefix of the file that is completely written
+	 * @throws IOException if the file could not be forced to disk
+	 */
+	public synchronized void update(FileChannel channel, long length) throws IOException {
+		long now = System.currentTimeMillis();
+		if (length <= committed || now - lastCheckpoint < CHECKPOINT_INTERVAL)
+			return;
+
+		channel.force(false);
+		try {
+			sqliteDLDatabase.updateBytesCommitted(signature, length);
+			committed = length;
+		}
+		catch (SQLException e) {
+			l.warn("Could not record download progress for " + signature + ": " + e.getMessage());
+		}
+		lastCheckpoint = now;
+	}
+}
@@ -0,0 +1,125 @@
+package orca.imageproxy;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Remembers the downloads that failed recently, by signature, so that requests for a file
+ * whose origin is down or whose signature does not match fail fast with the same error,
+ * instead of each starting another download. A file may be tried again once its backoff
+ * has passed; the backoff doubles with every failure in a row, up to a maximum.
+ * A successful download, or an operator, clears the failures of a file.
+ */
+public class DownloadFailures {
+
+	private static final String ttlProperty = "imageproxy.failures.ttl";
+	private static final String maxTtlProperty = "imageproxy.failures.maxTtl";
+
+	private static DownloadFailures downloadFailures;
+
+	private Logger l;
+
+	// backoff after the first failure, and the most it grows to, in milliseconds
+	private final long ttl;
+	private final long maxTtl;
+
+	private final ConcurrentHashMap<String, Failure> failures = new ConcurrentHashMap<String, Failure>();
+
+	public synchronized static DownloadFailures getInstance() {
+		if (downloadFailures == null)
+			downloadFailures = new DownloadFailures();
+		return downloadFailures;
+	}
+
+	private DownloadFailures() {
+		l = Logger.getLogger(this.getClass());
+		Globals globals = Globals.getInstance();
+		ttl = Math.max(0, globals.getLongProperty(ttlProperty, 60)) * 1000;
+		maxTtl = Math.max(ttl, globals.getLongProperty(maxTtlProperty, 3600) * 1000);
+		if (ttl == 0)
+			l.info("Failed downloads are not remembered");
+		else
+			l.info("Failed downloads are retried after " + (ttl / 1000) + " seconds, backing off to " +
+				(maxTtl / 1000) + " seconds");
+	}
+
+	/**
+	 * Fails if the file failed to download recently.
+	 * @param signature
+	 * @throws IOException the error of the last failure
+	 */
+	public void check(String signature) throws IOException {
+		Failure failure = failures.get(signature);
+		if (failure == null)
+			return;
+		long wait = failure.retryAt - System.currentTimeMillis();
+		if (wait > 0)
+			throw new IOException(failure.error + " (failed " + failure.count + " times; retrying in " +
+				((wait + 999) / 1000) + " seconds)");
+	}
+
+	/**
+	 * Remembers a failed download, backing off further if it failed before.
+	 * @param signature
+	 * @param error
+	 */
+	public void failed(String signature, String error) {
+		if (ttl == 0)
+			return;
+		long now = System.currentTimeMillis();
+		expire(now);
+
+		Failure previous = failures.get(signature);
+		int count = (previous == null) ? 1 : previous.count + 1;
+		long backoff = ttl;
+		for (int i = 1; i < count && backoff < maxTtl; i++)
+			backoff *= 2;
+		backoff = Math.min(backoff, maxTtl);
+		failures.put(signature, new Failure(error, count, now + backoff));
+		l.warn("Download of " + signature + " failed " + count + " times; not retrying for " +
+			(backoff / 1000) + " seconds: " + error);
+	}
+
+	public void failed(String signature, Exception e) {
+		failed(signature, (e.getMessage() != null) ? e.getMessage() : e.toString());
+	}
+
+	/**
+	 * Forgets the failures of a file, after it downloaded or when an operator retries it.
+	 * @param signature
+	 * @return true if the file had failed
+	 */
+	public boolean clear(String signature) {
+		return failures.remove(signature) != null;
+	}
+
+	public int size() {
+		return failures.size();
+	}
+
+	/**
+	 * Forgets the failures that have not been repeated for longer than the longest backoff.
+	 */
+	private void expire(long now) {
+		Iterator<Failure> itr = failures.values().iterator();
+		while (itr.hasNext()) {
+			if (itr.next().retryAt + maxTtl < now)
+				itr.remove();
+		}
+	}
+
+	private static class Failure {
+		final String error;
+		final int count;
+		final long retryAt;
+
+		Failure(String error, int count, long retryAt) {
+			this.error = error;
+			this.count = count;
+			this.retryAt = retryAt;
+		}
+	}
+}
@@ -14,6 +14,9 @@ public class DownloadRegister extends RegistrationScript implements Callable<Str
 	private Map<String, Pair<String, String>> imageInfo; 
 	private String type;
 	
+	// registrations in progress, by image signature
+	private static final SingleFlight<String> registrations = new SingleFlight<String>();
+	
 	public DownloadRegister() throws Exception {
 		super();
 	}
@@ -23,60 +26,53 @@ public class DownloadRegister extends RegistrationScript implements Callable<Str
 	}
 
 	/**
-	 * 
+	 * Looks up the image in the registry, downloading and registering it if it is not there.
+	 * Concurrent requests for the same image share one registration, and its outcome.
 	 * @param imageInfo
 	 * @param type
-	 * @return
+	 * @return registered image id
 	 * @throws Exception
 	 */
-	private String downloadAndRegister(Map<String, Pair<String, String>> imageInfo, String type) throws Exception {
+	private String downloadAndRegister(Map<String, Pair<String, String>> imageInfo, final String type) throws Exception {
 		
-		ActiveDownloadMap dlMap = ActiveDownloadMap.getInstance();
-		String wakeObject;
-		String methodName = Thread.currentThread().getStackTrace()[1].getMethodName();
-
-		String signature = imageInfo.get(type).getFirst();
-		String url = imageInfo.get(type).getSecond();
+		final String signature = imageInfo.get(type).getFirst();
+		final String url = imageInfo.get(type).getSecond();
 
 		l.info("Download and register, Signature: " + signature + 
 			", Url: " + url + ", Type: " + type);
 
-		try {
-			// see if this file with given signature is present in registry
-			String imageId = db.checkImageSignature(signature, type, true);
-			wakeObject = (String) dlMap.get(signature+methodName);
-			if (wakeObject == null) {
-				String newWakeObject;
-				if (imageId == null)
-					newWakeObject = new String(Globals.IMAGE_INPROGRESS);
-				else
-					newWakeObject = new String(imageId);
-				wakeObject = (String) dlMap.putIfAbsent(signature+methodName,
-									newWakeObject);
-				if (wakeObject == null) wakeObject = newWakeObject;
+		SingleFlight.Flight<String> flight = registrations.join(signature, new Callable<String>() {
+			public String call() throws Exception {
+				return lookupOrRegister(signature, url, type);
 			}
-
-			// null means we get to load it, otherwise wait and return image id
-			if (imageId != null) {
-				// wait for other threads to load the image
-				synchronized (wakeObject) {
-					while (Globals.IMAGE_INPROGRESS.equals(imageId)) {
-						l.info("Image download from URL: " + url +
-							" in progress; awaiting completion.");
-						try {
-							wakeObject.wait();
-						} catch (InterruptedException e) {
-							;
-						}
-						l.info("Awakened while waiting" +
-							" for image to download; " +
-							"checking to see if complete...");
-						imageId = db.checkImageSignature(signature, type, false);
-						if (imageId == null)
-							return downloadAndRegister(imageInfo, type);
-					}
-				}
-			} else {
+		});
+		String imageId = flight.get();
+		if (!flight.isLeader())
+			l.info("Image Id: " + imageId + " (registered by a concurrent request)");
+		return imageId;
+	}
+	
+	/**
+	 * Runs for one request at a time per signature.
+	 * @param signature
+	 * @param url
+	 * @param type
+	 * @return registered image id
+	 * @throws Exception
+	 */
+	private String lookupOrRegister(String signature, String url, String type) throws Exception {
+		
+		// see if this file with given signature is present in registry
+		String imageId = db.checkImageSignature(signature, type, true);
+		
+		if (Globals.IMAGE_INPROGRESS.equals(imageId)) {
+			// every registration of this process runs in a flight, so this one is not ours to wait for
+			throw new IOException("Image (" + signature + ") is being registered, but not by this image proxy");
+		}
+		
+		// null means we get to load it
+		if (imageId == null) {
+			try {
 				String imagePath, hash;
 				try {
                                         Pair<String, String> downloadInfo = download(signature, url);
@@ -96,7 +92,9 @@ public class DownloadRegister extends RegistrationScript implements Callable<Str
 				}
 								
 				try {
+					long start = System.currentTimeMillis();
                                     imageId = register(imagePath, signature, type);
+					btDownload.recordCost(signature, -1, System.currentTimeMillis() - start);
 				}
 				catch (Exception exception){
 					l.error("Exception encountered while attempting " +
@@ -111,25 +109,15 @@ public class DownloadRegister extends RegistrationScript implements Callable<Str
 				
 				db.updateImageInfo(signature, imageId, type);
 			}
-			
-			l.info("Image Id: " + imageId);
-			
-			return imageId;
-			
-		}
-		catch (Exception exception) {
-			db.removeImageInfo(signature, type);
-			throw exception;
-		}
-		finally {
-			wakeObject = (String) dlMap.get(signature+methodName);
-			if (wakeObject != null) {
-				synchronized (wakeObject) {
-					wakeObject.notifyAll();
-				}
-				dlMap.remove(signature+methodName);
+			catch (Exception exception) {
+				db.removeImageInfo(signature, type);
+				throw exception;
 			}
 		}
+		
+		l.info("Image Id: " + imageId);
+		
+		return imageId;
 	}
 	
 	/**
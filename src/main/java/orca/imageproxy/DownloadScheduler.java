@@ -0,0 +1,410 @@
+package orca.imageproxy;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Limits how many files download at once, in all and per origin host, so that a burst
+ * of requests neither opens any number of connections to one origin nor has any number
+ * of writers competing for the cache disk.
+ * Files are scheduled by size, on two lanes, so that a kernel or ramdisk of a few MB
+ * never waits behind filesystem images of many GB:
+ * - bulk: first come, first served for each host, and the hosts take turns, so that a
+ *   burst for one host does not hold up the downloads from the others
+ * - small: files below a threshold, the smallest first
+ * Both lanes count against the same limits. Of these, a number of downloads in all, and
+ * one per host, are kept for small files, which bulk downloads may not take.
+ * Keeps track of how deep the queues get, how long downloads wait in them and how long
+ * they take, per lane.
+ */
+public class DownloadScheduler {
+
+	private static final String maxDownloadsProperty = "imageproxy.downloads.max";
+	private static final String maxPerHostProperty = "imageproxy.downloads.perHost";
+	private static final String smallReservedProperty = "imageproxy.downloads.smallReserved";
+	private static final String smallSizeProperty = "imageproxy.downloads.smallSize";
+
+	private static DownloadScheduler downloadScheduler;
+
+	private Logger l;
+
+	private final int max;
+	private final int maxPerHost;
+	// files smaller than this, in bytes, take the small lane
+	private final long smallSize;
+
+	// downloads running on both lanes, in all and by host
+	private int active = 0;
+	private final Map<String, Integer> activePerHost = new HashMap<String, Integer>();
+
+	private final Lane bulk;
+	private final Lane small;
+
+	public synchronized static DownloadScheduler getInstance() {
+		if (downloadScheduler == null)
+			downloadScheduler = new DownloadScheduler();
+		return downloadScheduler;
+	}
+
+	private DownloadScheduler() {
+		l = Logger.getLogger(this.getClass());
+		Globals globals = Globals.getInstance();
+		max = (int) Math.max(1, globals.getLongProperty(maxDownloadsProperty, 8));
+		maxPerHost = (int) Math.max(1, globals.getLongProperty(maxPerHostProperty, 4));
+		smallSize = Math.max(0, globals.getLongProperty(smallSizeProperty, 128)) * 1024 * 1024;
+		// bulk downloads always get at least one place, in all and per host
+		int smallReserved = (int) Math.min(max - 1, Math.max(0, globals.getLongProperty(smallReservedProperty, 2)));
+		int smallReservedPerHost = (maxPerHost > 1 && smallReserved > 0) ? 1 : 0;
+		bulk = new Lane("bulk", max - smallReserved, maxPerHost - smallReservedPerHost, false);
+		small = new Lane("small", max, maxPerHost, true);
+		l.info("Up to " + max + " downloads at once, " + maxPerHost + " per origin host; of these, " +
+			smallReserved + " in all and " + smallReservedPerHost + " per host are kept for files under " +
+			smallSize + " bytes");
+	}
+
+	/**
+	 * Starts a download if it may start right away.
+	 * @param url the file's url
+	 * @param size size of the file, or -1 if unknown
+	 * @return the slot of the download, to be released when it is done; null if it has to wait
+	 */
+	public synchronized Slot tryAcquire(URL url, long size) {
+		Lane lane = getLane(size);
+		String host = getHost(url);
+		if (!lane.queue.isEmpty() || !lane.canStart(host))
+			return null;
+		Slot slot = new Slot(lane, host, size);
+		lane.start(slot);
+		return slot;
+	}
+
+	/**
+	 * Waits until the file may download.
+	 * @param url the file's url
+	 * @param size size of the file, or -1 if unknown
+	 * @return the slot of the download, to be released when it is done
+	 * @throws InterruptedException
+	 */
+	public synchronized Slot acquire(URL url, long size) throws InterruptedException {
+		Lane lane = getLane(size);
+		Slot slot = new Slot(lane, getHost(url), size);
+		lane.enqueue(slot);
+		dispatch();
+		if (slot.started)
+			return slot;
+
+		l.info("Download of " + size + " bytes from " + slot.host + " queued; " + lane);
+		try {
+			while (!slot.started)
+				wait();
+		}
+		catch (InterruptedException e) {
+			if (slot.started)
+				release(slot);
+			else
+				slot.lane.queue.remove(slot);
+			throw e;
+		}
+		l.info("Download of " + size + " bytes from " + slot.host + " waited " +
+			(slot.startTime - slot.queueTime) + " ms on the " + slot.lane.name + " lane");
+		return slot;
+	}
+
+	/**
+	 * Moves a running download to the lane of its size, once the size is known.
+	 * The download keeps running; it is counted on the new lane from now on.
+	 * @param slot
+	 * @param size size of the file
+	 */
+	public synchronized void resize(Slot slot, long size) {
+		slot.size = size;
+		Lane lane = getLane(size);
+		if (slot.released || lane == slot.lane)
+			return;
+		slot.lane.leave(slot);
+		slot.lane = lane;
+		lane.join(slot);
+		dispatch();
+		notifyAll();
+	}
+
+	/**
+	 * Ends a download, letting the next one start.
+	 * @param slot
+	 */
+	public synchronized void release(Slot slot) {
+		if (slot.released)
+			return;
+		slot.released = true;
+		slot.lane.end(slot);
+		dispatch();
+		notifyAll();
+	}
+
+	/**
+	 * Starts queued downloads while there is room, small files first.
+	 */
+	private void dispatch() {
+		small.dispatch();
+		bulk.dispatch();
+	}
+
+	private Lane getLane(long size) {
+		return (size >= 0 && size < smallSize) ? small : bulk;
+	}
+
+	private static String getHost(URL url) {
+		return url.getHost() + ":" + ((url.getPort() < 0) ? url.getDefaultPort() : url.getPort());
+	}
+
+	private static int count(Map<String, Integer> counts, String host) {
+		Integer count = counts.get(host);
+		return (count == null) ? 0 : count;
+	}
+
+	private static void add(Map<String, Integer> counts, String host, int delta) {
+		int count = count(counts, host) + delta;
+		if (count == 0)
+			counts.remove(host);
+		else
+			counts.put(host, count);
+	}
+
+	public Lane getBulkLane() {
+		return bulk;
+	}
+
+	public Lane getSmallLane() {
+		return small;
+	}
+
+	/**
+	 * @return number of downloads running on both lanes
+	 */
+	public synchronized int getActive() {
+		return active;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "Downloads: " + active + " of " + max + " running; " + bulk + "; " + small;
+	}
+
+	/**
+	 * One lane of downloads, with its own queue, share of the limits and statistics.
+	 * Guarded by the scheduler.
+	 */
+	public class Lane {
+
+		private final String name;
+		// most downloads of the lane, in all and per host
+		private final int max;
+		private final int maxPerHost;
+		// whether the smallest file goes first, rather than the hosts taking turns
+		private final boolean shortestFirst;
+
+		private final LinkedList<Slot> queue = new LinkedList<Slot>();
+		private final Map<String, Integer> activePerHost = new HashMap<String, Integer>();
+		// when each host with queued downloads last had its turn
+		private final Map<String, Long> lastTurn = new HashMap<String, Long>();
+		private long turns = 0;
+		private int active = 0;
+
+		private int maxQueued = 0;
+		private long started = 0;
+		private long totalWait = 0;
+		private long completed = 0;
+		private long totalRun = 0;
+
+		Lane(String name, int max, int maxPerHost, boolean shortestFirst) {
+			this.name = name;
+			this.max = max;
+			this.maxPerHost = maxPerHost;
+			this.shortestFirst = shortestFirst;
+		}
+
+		boolean canStart(String host) {
+			return DownloadScheduler.this.active < DownloadScheduler.this.max &&
+				count(DownloadScheduler.this.activePerHost, host) < DownloadScheduler.this.maxPerHost &&
+				active < max && count(activePerHost, host) < maxPerHost;
+		}
+
+		void enqueue(Slot slot) {
+			if (shortestFirst) {
+				// behind the files of the same size that came before it
+				ListIterator<Slot> itr = queue.listIterator();
+				while (itr.hasNext()) {
+					if (itr.next().size > slot.size) {
+						itr.previous();
+						break;
+					}
+				}
+				itr.add(slot);
+			}
+			else {
+				queue.add(slot);
+			}
+			maxQueued = Math.max(maxQueued, queue.size());
+		}
+
+		/**
+		 * Starts queued downloads while there is room.
+		 */
+		void dispatch() {
+			Slot next;
+			while ((next = next()) != null) {
+				queue.remove(next);
+				start(next);
+			}
+			if (queue.isEmpty())
+				lastTurn.clear();
+		}
+
+		/**
+		 * @return the queued download to start next, or null if none may start
+		 */
+		private Slot next() {
+			Slot next = null;
+			Set<String> seen = new HashSet<String>();
+			for (Iterator<Slot> itr = queue.iterator(); itr.hasNext();) {
+				Slot slot = itr.next();
+				// only the first queued download of a host is up for its turn
+				if (!seen.add(slot.host) || !canStart(slot.host))
+					continue;
+				if (shortestFirst)
+					return slot;
+				if (next == null || getLastTurn(slot.host) < getLastTurn(next.host))
+					next = slot;
+			}
+			return next;
+		}
+
+		private long getLastTurn(String host) {
+			Long turn = lastTurn.get(host);
+			return (turn == null) ? -1 : turn;
+		}
+
+		void start(Slot slot) {
+			slot.started = true;
+			slot.startTime = System.currentTimeMillis();
+			DownloadScheduler.this.active++;
+			add(DownloadScheduler.this.activePerHost, slot.host, 1);
+			lastTurn.put(slot.host, turns++);
+			join(slot);
+		}
+
+		void end(Slot slot) {
+			DownloadScheduler.this.active--;
+			add(DownloadScheduler.this.activePerHost, slot.host, -1);
+			active--;
+			add(activePerHost, slot.host, -1);
+			completed++;
+			totalRun += System.currentTimeMillis() - slot.startTime;
+		}
+
+		/**
+		 * Counts a running download on this lane.
+		 */
+		void join(Slot slot) {
+			active++;
+			add(activePerHost, slot.host, 1);
+			started++;
+			totalWait += slot.startTime - slot.queueTime;
+		}
+
+		/**
+		 * Stops counting a running download on this lane, which it leaves for another.
+		 */
+		void leave(Slot slot) {
+			active--;
+			add(activePerHost, slot.host, -1);
+			started--;
+			totalWait -= slot.startTime - slot.queueTime;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return number of downloads running
+		 */
+		public int getActive() {
+			synchronized (DownloadScheduler.this) {
+				return active;
+			}
+		}
+
+		/**
+		 * @return number of downloads waiting to start
+		 */
+		public int getQueueDepth() {
+			synchronized (DownloadScheduler.this) {
+				return queue.size();
+			}
+		}
+
+		/**
+		 * @return the most downloads that have been waiting at once
+		 */
+		public int getMaxQueueDepth() {
+			synchronized (DownloadScheduler.this) {
+				return maxQueued;
+			}
+		}
+
+		/**
+		 * @return average time downloads waited to start, in milliseconds
+		 */
+		public long getAverageWait() {
+			synchronized (DownloadScheduler.this) {
+				return (started == 0) ? 0 : totalWait / started;
+			}
+		}
+
+		/**
+		 * @return average time downloads took once started, in milliseconds
+		 */
+		public long getAverageRun() {
+			synchronized (DownloadScheduler.this) {
+				return (completed == 0) ? 0 : totalRun / completed;
+			}
+		}
+
+		@Override
+		public String toString() {
+			synchronized (DownloadScheduler.this) {
+				return name + " downloads: " + active + " of " + max + " running, " + queue.size() +
+					" queued (at most " + maxQueued + "), " + completed + " done, average wait " +
+					getAverageWait() + " ms, average download " + getAverageRun() + " ms";
+			}
+		}
+	}
+
+	/**
+	 * The right of one download to run.
+	 */
+	public static class Slot {
+		private Lane lane;
+		private final String host;
+		private long size;
+		private final long queueTime = System.currentTimeMillis();
+		private long startTime;
+		private boolean started = false;
+		private boolean released = false;
+
+		private Slot(Lane lane, String host, long size) {
+			this.lane = lane;
+			this.host = host;
+			this.size = size;
+		}
+	}
+}
@@ -7,6 +7,15 @@ public class Entry{
 	private String filePath;
 	private String downloadType;
 	private String torrentFilePath;
+	private long bytesCommitted;//for a partial http download, the length of the prefix known to be on disk
+	private String etag;
+	private String lastModified;
+	private int status;
+	private int activeRef;
+	private long lastRef;
+	private long hits;//number of requests served from the cached file
+	private long fetchTime;//measured time to download the file, in milliseconds
+	private long registerTime;//measured time to register the image made from the file, in milliseconds
 	
 	public Entry(String hashcode, long filesize, int reference, String filepath, String downloadType, String torrentFilePath)
 	{
@@ -15,9 +24,28 @@ public class Entry{
 		this.filePath = filepath;
 		this.downloadType = downloadType;
 		this.torrentFilePath = torrentFilePath;
+		this.activeRef = reference;
 	}
 	
 	public Entry(){;}
+	
+	public Entry(Entry other)
+	{
+		this.signature = other.signature;
+		this.filesize = other.filesize;
+		this.filePath = other.filePath;
+		this.downloadType = other.downloadType;
+		this.torrentFilePath = other.torrentFilePath;
+		this.bytesCommitted = other.bytesCommitted;
+		this.etag = other.etag;
+		this.lastModified = other.lastModified;
+		this.status = other.status;
+		this.activeRef = other.activeRef;
+		this.lastRef = other.lastRef;
+		this.hits = other.hits;
+		this.fetchTime = other.fetchTime;
+		this.registerTime = other.registerTime;
+	}
 
 	public String getSignature() {
 		return signature;
@@ -49,4 +77,58 @@ public class Entry{
 	public void setTorrentFilePath(String torrentFilePath){
 		this.torrentFilePath = torrentFilePath;
 	}
+	public long getBytesCommitted() {
+		return bytesCommitted;
+	}
+	public void setBytesCommitted(long bytesCommitted) {
+		this.bytesCommitted = bytesCommitted;
+	}
+	public String getEtag() {
+		return etag;
+	}
+	public void setEtag(String etag) {
+		this.etag = etag;
+	}
+	public String getLastModified() {
+		return lastModified;
+	}
+	public void setLastModified(String lastModified) {
+		this.lastModified = lastModified;
+	}
+	public int getStatus() {
+		return status;
+	}
+	public void setStatus(int status) {
+		this.status = status;
+	}
+	public int getActiveRef() {
+		return activeRef;
+	}
+	public void setActiveRef(int activeRef) {
+		this.activeRef = activeRef;
+	}
+	public long getLastRef() {
+		return lastRef;
+	}
+	public void setLastRef(long lastRef) {
+		this.lastRef = lastRef;
+	}
+	public long getHits() {
+		return hits;
+	}
+	public void setHits(long hits) {
+		this.hits = hits;
+	}
+	public long getFetchTime() {
+		return fetchTime;
+	}
+	public void setFetchTime(long fetchTime) {
+		this.fetchTime = fetchTime;
+	}
+	public long getRegisterTime() {
+		return registerTime;
+	}
+	public void setRegisterTime(long registerTime) {
+		this.registerTime = registerTime;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package orca.imageproxy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * GreedyDual-Size-Frequency: evicts the candidate whose loss is cheapest per byte freed.
+ * The priority of a file is
+ *   L + requests * cost / size
+ * where the cost is the measured time it took to download the file and register its image,
+ * and L is the priority of the last file evicted, so that files which are no longer requested
+ * age out however expensive they once were. A single large image therefore no longer pushes
+ * out dozens of small, frequently used kernels and ramdisks.
+ */
+public class GdsfPolicy extends PriorityPolicy {
+
+	public static final String NAME = "GDSF";
+
+	// inflation value: the priority of the last evicted file
+	private double inflation = 0;
+
+	// measured download times of the files in the cache, to estimate the cost of files
+	// that have none recorded; each file counts once, as long as it is in the cache
+	private double measuredTime = 0;
+	private double measuredBytes = 0;
+	// signature -> download time and size the file added to the totals
+	private final Map<String, double[]> measurements = new HashMap<String, double[]>();
+
+	public String getName() {
+		return NAME;
+	}
+
+	protected double priority(Entry e) {
+		double size = Math.max(1, e.getFilesize());
+		return inflation + (e.getHits() + 1) * cost(e) / size;
+	}
+
+	protected void evicted(Rank rank) {
+		inflation = rank.priority;
+	}
+
+	public void removed(Entry e) {
+		super.removed(e);
+		double[] measurement = measurements.remove(e.getSignature());
+		if (measurement != null) {
+			measuredTime -= measurement[0];
+			measuredBytes -= measurement[1];
+		}
+	}
+
+	public void clear() {
+		super.clear();
+		inflation = 0;
+		measuredTime = 0;
+		measuredBytes = 0;
+		measurements.clear();
+	}
+
+	/**
+	 * @param e
+	 * @return the time, in milliseconds, it would take to bring the file back
+	 */
+	private double cost(Entry e) {
+		double fetchTime = e.getFetchTime();
+		if (fetchTime > 0 && e.getFilesize() > 0)
+			measured(e.getSignature(), fetchTime, e.getFilesize());
+		else if (measuredBytes > 0) {
+			// not measured (e.g. cached before costs were recorded); assume the average rate
+			fetchTime = e.getFilesize() * (measuredTime / measuredBytes);
+		}
+		return Math.max(1, fetchTime + e.getRegisterTime());
+	}
+
+	/**
+	 * Counts the measured download of a file in the totals, in place of any earlier
+	 * measurement of the same file.
+	 */
+	private void measured(String signature, double fetchTime, double size) {
+		double[] previous = measurements.put(signature, new double[] { fetchTime, size });
+		if (previous != null) {
+			measuredTime -= previous[0];
+			measuredBytes -= previous[1];
+		}
+		measuredTime += fetchTime;
+		measuredBytes += size;
+	}
+}
@@ -121,4 +121,25 @@ public class Globals {
         public int getRegistrationTimeout() {
                 return getInstance().registrationTimeout;
         }
+
+        /**
+         * Fetches a numeric setting, falling back to the given default
+         * if the property is unset or cannot be parsed.
+         * @param name
+         * @param defaultValue
+         * @return value of the property
+         */
+        public long getLongProperty(String name, long defaultValue) {
+                String value = getProperties().getProperty(name);
+                if (value == null || value.trim().length() == 0)
+                    return defaultValue;
+                try {
+                    return Long.parseLong(value.trim());
+                }
+                catch (NumberFormatException e) {
+                    l.error("Invalid value specified for property: " + name);
+                    l.error("Falling back to default value (" + defaultValue + ").");
+                    return defaultValue;
+                }
+        }
 }
@@ -0,0 +1,248 @@
+package orca.imageproxy;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * The single HTTP request made for an image. Its response headers are used to size
+ * the download before any space is reserved, and its body is then read by the download
+ * itself, so that no separate request is needed just to find out how big a file is.
+ * A body that is read to the end leaves the connection in the JVM's keep-alive cache,
+ * where further requests to the same origin can pick it up.
+ */
+public class HttpProbe {
+
+	private final URL url;
+	private final HttpURLConnection connection;
+	private final long offset;
+	private ReadableByteChannel body;
+
+	private HttpProbe(URL url, HttpURLConnection connection, long offset) {
+		this.url = url;
+		this.connection = connection;
+		this.offset = offset;
+	}
+
+	/**
+	 * Requests a file, or the rest of it from the given offset.
+	 * When resuming, the origin sends the whole file instead if the validator no longer matches,
+	 * in which case the resulting probe starts at offset 0.
+	 * @param url
+	 * @param offset where to resume, 0 for the whole file
+	 * @param validator ETag or Last-Modified value of the partial file; required if offset > 0
+	 * @return the open request
+	 * @throws IOException
+	 */
+	public static HttpProbe open(URL url, long offset, String validator) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+		Origins.getInstance().configure(connection);
+		int responseCode;
+		try {
+			if (offset > 0) {
+				connection.setRequestProperty("Range", "bytes=" + offset + "-");
+				connection.setRequestProperty("If-Range", validator);
+			}
+			responseCode = connection.getResponseCode();
+			if (responseCode != HttpURLConnection.HTTP_OK &&
+					responseCode != HttpURLConnection.HTTP_PARTIAL)
+				throw new StatusException(responseCode, "HTTP " + responseCode + " " + connection.getResponseMessage());
+		}
+		catch (StatusException statusException) {
+			connection.disconnect();
+			throw new StatusException(statusException.getStatus(), "Error encountered while attempting to " +
+					"establish HTTP connection to URL: " +
+					url + " ; reason was: " + statusException.getMessage());
+		}
+		catch (IOException ioException) {
+			connection.disconnect();
+			throw new IOException("Error encountered while attempting to " +
+					"establish HTTP connection to URL: " +
+					url + " ; reason was: " + ioException.getMessage());
+		}
+
+		if (offset > 0 && responseCode == HttpURLConnection.HTTP_PARTIAL) {
+			long start = getRangeStart(connection);
+			if (start != offset) {
+				connection.disconnect();
+				throw new IOException("Origin answered the request to resume " + url +
+						" at " + offset + " with range " + connection.getHeaderField("Content-Range"));
+			}
+			return new HttpProbe(url, connection, offset);
+		}
+
+		return new HttpProbe(url, connection, 0);
+	}
+
+	/**
+	 * Asks for the size of a file with a HEAD request, for when it is needed before the
+	 * file itself may be requested.
+	 * @param url
+	 * @return the size of the file, or -1 if the origin did not say
+	 * @throws IOException
+	 */
+	public static long head(URL url) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+		Origins.getInstance().configure(connection);
+		try {
+			connection.setRequestMethod("HEAD");
+			int responseCode = connection.getResponseCode();
+			// an origin need not support HEAD; the file is then sized when it is requested
+			if (responseCode == HttpURLConnection.HTTP_BAD_METHOD ||
+					responseCode == HttpURLConnection.HTTP_NOT_IMPLEMENTED)
+				return -1;
+			if (responseCode != HttpURLConnection.HTTP_OK)
+				throw new StatusException(responseCode, "Error encountered while asking URL: " + url +
+						" for its size ; reason was: HTTP " + responseCode + " " + connection.getResponseMessage());
+			String fileLength = connection.getHeaderField("Content-Length");
+			if (fileLength == null)
+				return -1;
+			try {
+				return Long.parseLong(fileLength.trim());
+			}
+			catch (NumberFormatException e) {
+				return -1;
+			}
+		}
+		finally {
+			connection.disconnect();
+		}
+	}
+
+	public URL getURL() {
+		return url;
+	}
+
+	/**
+	 * @return position in the file at which the body starts
+	 */
+	public long getOffset() {
+		return offset;
+	}
+
+	/**
+	 * @return whether the body carries only part of the file
+	 */
+	public boolean isPartial() {
+		return offset > 0;
+	}
+
+	/**
+	 * @return the number of bytes in the body, or -1 if the origin did not say
+	 */
+	public long getContentLength() {
+		String fileLength = connection.getHeaderField("Content-Length");
+		if (fileLength == null)
+			return -1;
+		try {
+			return Long.parseLong(fileLength.trim());
+		}
+		catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * @return the size of the whole file, or -1 if unknown
+	 */
+	public long getTotalLength() {
+		long contentLength = getContentLength();
+		if (contentLength < 0)
+			return -1;
+		return offset + contentLength;
+	}
+
+	/**
+	 * @return whether further byte ranges of the file can be requested
+	 */
+	public boolean acceptsRanges() {
+		if (isPartial())
+			return true;
+		String acceptRanges = connection.getHeaderField("Accept-Ranges");
+		return acceptRanges != null && acceptRanges.trim().equalsIgnoreCase("bytes");
+	}
+
+	public String getEtag() {
+		return connection.getHeaderField("ETag");
+	}
+
+	public String getLastModified() {
+		return connection.getHeaderField("Last-Modified");
+	}
+
+	/**
+	 * @return the response body, positioned at getOffset() in the file
+	 * @throws IOException
+	 */
+	public synchronized ReadableByteChannel getBody() throws IOException {
+		if (body == null)
+			body = Channels.newChannel(connection.getInputStream());
+		return body;
+	}
+
+	/**
+	 * Drops the connection outright, for when the body will not be read to the end.
+	 */
+	public void disconnect() {
+		connection.disconnect();
+	}
+
+	/**
+	 * Releases the request. A body that was never read is not drained.
+	 */
+	public synchronized void close() {
+		if (body == null) {
+			connection.disconnect();
+			return;
+		}
+		try {
+			body.close();
+		}
+		catch (IOException e) {
+			connection.disconnect();
+		}
+	}
+
+	/**
+	 * An origin that answered a request with an error status.
+	 */
+	public static class StatusException extends IOException {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int status;
+
+		public StatusException(int status, String message) {
+			super(message);
+			this.status = status;
+		}
+
+		public int getStatus() {
+			return status;
+		}
+	}
+
+	/**
+	 * @param connection
+	 * @return the first byte of the range carried by a partial response, or -1 if unknown
+	 */
+	private static long getRangeStart(HttpURLConnection connection) {
+		// Content-Range: bytes <first>-<last>/<length>
+		String contentRange = connection.getHeaderField("Content-Range");
+		if (contentRange == null)
+			return -1;
+		contentRange = contentRange.trim();
+		int space = contentRange.indexOf(' ');
+		int dash = contentRange.indexOf('-');
+		if (space < 0 || dash < space)
+			return -1;
+		try {
+			return Long.parseLong(contentRange.substring(space + 1, dash).trim());
+		}
+		catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+}
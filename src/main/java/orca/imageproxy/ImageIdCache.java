@@ -0,0 +1,113 @@
+package orca.imageproxy;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers the image ids RegisterImage returned for each metadata signature, so that
+ * a request for an image set that is already registered is answered from memory, without
+ * fetching the metadata, parsing it or looking up the registry.
+ * A result is forgotten as soon as the registry forgets one of its images, i.e. when the
+ * image is deregistered or its file is evicted. Lookups take no lock.
+ */
+public class ImageIdCache {
+
+	private static final ImageIdCache imageIdCache = new ImageIdCache();
+
+	// metadata signature -> registered image ids
+	private final Map<String, Resolution> resolved = new ConcurrentHashMap<String, Resolution>();
+
+	// counts invalidations, so a result resolved while one happened is not kept
+	private final AtomicLong generation = new AtomicLong();
+
+	public static ImageIdCache getInstance() {
+		return imageIdCache;
+	}
+
+	/**
+	 * @param metadataSignature
+	 * @return the serialized image ids, or null if they are not known
+	 */
+	public String get(String metadataSignature) {
+		Resolution r = resolved.get(metadataSignature);
+		return (r == null) ? null : r.imageIds;
+	}
+
+	/**
+	 * @param metadataSignature
+	 * @return the signatures of the images the ids belong to, or null if they are not known
+	 */
+	public String[] getImageSignatures(String metadataSignature) {
+		Resolution r = resolved.get(metadataSignature);
+		return (r == null) ? null : r.imageSignatures.clone();
+	}
+
+	/**
+	 * To be read before resolving image ids, and handed to put() with the result.
+	 * @return the current generation
+	 */
+	public long getGeneration() {
+		return generation.get();
+	}
+
+	/**
+	 * Remembers the image ids resolved for a metadata signature, unless one of the
+	 * images may have been forgotten since the resolution started.
+	 * @param metadataSignature
+	 * @param imageSignatures signatures of the images the ids belong to
+	 * @param imageIds serialized image ids
+	 * @param startGeneration generation read before resolving
+	 */
+	public void put(String metadataSignature, Collection<String> imageSignatures, String imageIds,
+			long startGeneration) {
+		Resolution r = new Resolution(imageSignatures.toArray(new String[imageSignatures.size()]), imageIds);
+		resolved.put(metadataSignature, r);
+		// an invalidation may have scanned the map before the put
+		if (generation.get() != startGeneration)
+			resolved.remove(metadataSignature);
+	}
+
+	/**
+	 * Forgets every result that includes the image with the given signature.
+	 * @param imageSignature
+	 */
+	public void invalidate(String imageSignature) {
+		generation.incrementAndGet();
+		Iterator<Resolution> itr = resolved.values().iterator();
+		while (itr.hasNext()) {
+			if (itr.next().includes(imageSignature))
+				itr.remove();
+		}
+	}
+
+	public int size() {
+		return resolved.size();
+	}
+
+	public void clear() {
+		generation.incrementAndGet();
+		resolved.clear();
+	}
+
+	private static class Resolution {
+
+		final String[] imageSignatures;
+		final String imageIds;
+
+		Resolution(String[] imageSignatures, String imageIds) {
+			this.imageSignatures = imageSignatures;
+			this.imageIds = imageIds;
+		}
+
+		boolean includes(String imageSignature) {
+			for (String s : imageSignatures) {
+				if (s.equals(imageSignature))
+					return true;
+			}
+			return false;
+		}
+	}
+}
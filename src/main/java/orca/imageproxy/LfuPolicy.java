@@ -0,0 +1,19 @@
+package orca.imageproxy;
+
+/**
+ * Evicts the candidate that has been requested the fewest times.
+ * Request counts are kept in the FILE table, so they survive a restart.
+ */
+public class LfuPolicy extends PriorityPolicy {
+
+	public static final String NAME = "LFU";
+
+	public String getName() {
+		return NAME;
+	}
+
+	protected double priority(Entry e) {
+		// the request that brought the file in counts too
+		return e.getHits() + 1;
+	}
+}
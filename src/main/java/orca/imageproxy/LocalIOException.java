@@ -0,0 +1,22 @@
+package orca.imageproxy;
+
+import java.io.IOException;
+
+/**
+ * A failure of the image proxy's own disk, as opposed to the network or the origin of a
+ * file. Trying the origin again would not help, so such a failure is neither retried nor
+ * held against the origin.
+ */
+public class LocalIOException extends IOException {
+
+	private static final long serialVersionUID = 1L;
+
+	public LocalIOException(String message) {
+		super(message);
+	}
+
+	public LocalIOException(String message, Throwable cause) {
+		super(message);
+		initCause(cause);
+	}
+}
@@ -0,0 +1,49 @@
+package orca.imageproxy;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Evicts the candidate that was released longest ago.
+ * This is the order the MOSTSTALEVIEW of the FILE table has always used.
+ */
+public class LruPolicy implements CachePolicy {
+
+	public static final String NAME = "LRU";
+
+	// candidates, least recently released first
+	private final LinkedHashMap<String, Entry> candidates = new LinkedHashMap<String, Entry>();
+
+	public String getName() {
+		return NAME;
+	}
+
+	public void added(Entry e) {
+	}
+
+	public void accessed(Entry e) {
+	}
+
+	public void offer(Entry e) {
+		// a candidate keeps its place; only being released again moves it back
+		if (!candidates.containsKey(e.getSignature()))
+			candidates.put(e.getSignature(), e);
+	}
+
+	public void withdraw(Entry e) {
+		candidates.remove(e.getSignature());
+	}
+
+	public void removed(Entry e) {
+		candidates.remove(e.getSignature());
+	}
+
+	public Entry victim() {
+		Iterator<Entry> itr = candidates.values().iterator();
+		return itr.hasNext() ? itr.next() : null;
+	}
+
+	public void clear() {
+		candidates.clear();
+	}
+}
@@ -0,0 +1,64 @@
+package orca.imageproxy;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers parsed metadata files by their signature. A signature always stands for the
+ * same content, so an entry never goes stale; a request for metadata parsed before needs
+ * neither the file nor the XML parser. Holds at most a configured number of entries,
+ * forgetting the least recently used ones first.
+ */
+public class MetadataCache {
+
+	private static final String cacheSizeProperty = "imageproxy.metadata.cacheSize";
+
+	private static MetadataCache metadataCache;
+
+	// metadata signature -> signature and url of each image, by image type
+	private final Map<String, Map<String, Pair<String, String>>> parsed;
+
+	public synchronized static MetadataCache getInstance() {
+		if (metadataCache == null)
+			metadataCache = new MetadataCache();
+		return metadataCache;
+	}
+
+	private MetadataCache() {
+		final long capacity = Math.max(0, Globals.getInstance().getLongProperty(cacheSizeProperty, 1024));
+		parsed = new LinkedHashMap<String, Map<String, Pair<String, String>>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Map<String, Pair<String, String>>> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * @param metadataSignature
+	 * @return the parsed metadata, or null if it is not known
+	 */
+	public synchronized Map<String, Pair<String, String>> get(String metadataSignature) {
+		return parsed.get(metadataSignature);
+	}
+
+	/**
+	 * @param metadataSignature
+	 * @param imageInfo the parsed metadata
+	 * @return the parsed metadata, unmodifiable
+	 */
+	public Map<String, Pair<String, String>> put(String metadataSignature, Map<String, Pair<String, String>> imageInfo) {
+		Map<String, Pair<String, String>> entry = Collections.unmodifiableMap(imageInfo);
+		synchronized (this) {
+			parsed.put(metadataSignature, entry);
+		}
+		return entry;
+	}
+
+	public synchronized int size() {
+		return parsed.size();
+	}
+}
@@ -0,0 +1,240 @@
+package orca.imageproxy;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.log4j.Logger;
+
+/**
+ * How requests to the origins of images are made and retried, per origin host.
+ * A request that fails for a reason that may pass (a refused or dropped connection, a
+ * timeout, a 5xx answer) is tried again a few times, after a backoff that doubles with
+ * every attempt and is jittered so that many requests do not come back at once.
+ * Failures of the local disk or database are not held against the origin.
+ * An origin that keeps failing has its circuit opened: requests to it fail right away
+ * until a cool-down has passed, after which one request is let through to try it again.
+ */
+public class Origins {
+
+	private static final String maxAttemptsProperty = "imageproxy.origin.maxAttempts";
+	private static final String backoffProperty = "imageproxy.origin.backoff";
+	private static final String maxBackoffProperty = "imageproxy.origin.maxBackoff";
+	private static final String connectTimeoutProperty = "imageproxy.origin.connectTimeout";
+	private static final String readTimeoutProperty = "imageproxy.origin.readTimeout";
+	private static final String breakerThresholdProperty = "imageproxy.origin.breakerThreshold";
+	private static final String breakerCooldownProperty = "imageproxy.origin.breakerCooldown";
+
+	private static Origins origins;
+
+	private Logger l;
+
+	private final int maxAttempts;
+	// in milliseconds
+	private final long backoff;
+	private final long maxBackoff;
+	private final int connectTimeout;
+	private final int readTimeout;
+	private final long breakerCooldown;
+	// failures in a row that open the circuit of an origin
+	private final int breakerThreshold;
+
+	private final Random random = new Random();
+
+	// by host and port
+	private final ConcurrentHashMap<String, Origin> hosts = new ConcurrentHashMap<String, Origin>();
+
+	public synchronized static Origins getInstance() {
+		if (origins == null)
+			origins = new Origins();
+		return origins;
+	}
+
+	private Origins() {
+		l = Logger.getLogger(this.getClass());
+		Globals globals = Globals.getInstance();
+		maxAttempts = (int) Math.max(1, globals.getLongProperty(maxAttemptsProperty, 3));
+		backoff = Math.max(0, globals.getLongProperty(backoffProperty, 1000));
+		maxBackoff = Math.max(backoff, globals.getLongProperty(maxBackoffProperty, 30000));
+		connectTimeout = (int) Math.max(0, globals.getLongProperty(connectTimeoutProperty, 30) * 1000);
+		readTimeout = (int) Math.max(0, globals.getLongProperty(readTimeoutProperty, 120) * 1000);
+		breakerThreshold = (int) Math.max(1, globals.getLongProperty(breakerThresholdProperty, 5));
+		breakerCooldown = Math.max(0, globals.getLongProperty(breakerCooldownProperty, 60) * 1000);
+		l.info("Origin requests: " + maxAttempts + " attempts, backoff " + backoff + " to " + maxBackoff +
+			" ms, timeouts " + connectTimeout + "/" + readTimeout + " ms; circuit opens after " +
+			breakerThreshold + " failures for " + (breakerCooldown / 1000) + " seconds");
+	}
+
+	/**
+	 * Sets the connect and read timeouts of a request to an origin.
+	 * @param connection
+	 */
+	public void configure(URLConnection connection) {
+		connection.setConnectTimeout(connectTimeout);
+		connection.setReadTimeout(readTimeout);
+	}
+
+	/**
+	 * Makes a request to an origin, trying it again while it fails for a reason that may pass.
+	 * @param url the request goes to the host of this url
+	 * @param request
+	 * @return the result of the request
+	 * @throws Exception the exception of the last attempt, or why the origin was not tried
+	 */
+	public <T> T call(URL url, Callable<T> request) throws Exception {
+		Origin origin = getOrigin(url);
+		for (int attempt = 1; ; attempt++) {
+			origin.admit();
+			try {
+				T result = request.call();
+				origin.succeeded();
+				return result;
+			}
+			catch (Exception e) {
+				if (e instanceof HttpProbe.StatusException && !isTransient(e)) {
+					// the origin answered; it is up
+					origin.succeeded();
+					throw e;
+				}
+				if (!isTransient(e)) {
+					// failed on our side, which says nothing about the origin
+					origin.abandoned();
+					throw e;
+				}
+				origin.failed(e);
+				if (attempt >= maxAttempts)
+					throw e;
+				long wait = getBackoff(attempt);
+				l.warn("Attempt " + attempt + " of " + maxAttempts + " at " + url + " failed (" +
+					e.getMessage() + "); trying again in " + wait + " ms");
+				Thread.sleep(wait);
+			}
+		}
+	}
+
+	/**
+	 * Only failures on the network side (connecting, reading, an error status that may pass)
+	 * are transient; a failure of the local disk or database is not.
+	 * @param e
+	 * @return whether a request that failed with the exception may succeed if tried again
+	 */
+	public static boolean isTransient(Exception e) {
+		if (e instanceof HttpProbe.StatusException) {
+			int status = ((HttpProbe.StatusException) e).getStatus();
+			return status >= 500 || status == 429 || status == 408;
+		}
+		return e instanceof IOException && !(e instanceof LocalIOException);
+	}
+
+	/**
+	 * @param e
+	 * @return whether a request failed because of the origin or the network to it: an error
+	 * status, or a network failure that outlasted the retries; not a failure on our side,
+	 * nor a request that was not made because the origin's circuit is open
+	 */
+	public static boolean isOriginFailure(Exception e) {
+		return e instanceof HttpProbe.StatusException ||
+			(isTransient(e) && !(e instanceof OpenCircuitException));
+	}
+
+	/**
+	 * @param attempt number of the attempt that failed, from 1
+	 * @return how long to wait before the next attempt, in milliseconds
+	 */
+	private long getBackoff(int attempt) {
+		long wait = backoff;
+		for (int i = 1; i < attempt && wait < maxBackoff; i++)
+			wait *= 2;
+		wait = Math.min(wait, maxBackoff);
+		// somewhere between half and all of it
+		double jitter;
+		synchronized (random) {
+			jitter = random.nextDouble();
+		}
+		return wait / 2 + (long) (jitter * (wait - wait / 2));
+	}
+
+	private Origin getOrigin(URL url) {
+		String host = url.getHost() + ":" + ((url.getPort() < 0) ? url.getDefaultPort() : url.getPort());
+		Origin origin = hosts.get(host);
+		if (origin == null) {
+			Origin created = new Origin(host);
+			origin = hosts.putIfAbsent(host, created);
+			if (origin == null)
+				origin = created;
+		}
+		return origin;
+	}
+
+	/**
+	 * The circuit breaker of one origin host.
+	 */
+	private class Origin {
+
+		private final String host;
+
+		// guarded by this
+		private int failures = 0;
+		// while open, no request is let through before this time
+		private long openUntil = 0;
+		private boolean open = false;
+		// an open circuit lets a single request through after its cool-down
+		private boolean trial = false;
+
+		Origin(String host) {
+			this.host = host;
+		}
+
+		synchronized void admit() throws OpenCircuitException {
+			if (!open)
+				return;
+			if (trial || System.currentTimeMillis() < openUntil)
+				throw new OpenCircuitException("Origin " + host + " failed " + failures +
+					" times in a row; not trying it again for now");
+			trial = true;
+			l.info("Trying origin " + host + " again");
+		}
+
+		synchronized void succeeded() {
+			if (open)
+				l.info("Origin " + host + " is back");
+			failures = 0;
+			open = false;
+			trial = false;
+		}
+
+		/**
+		 * Lets another request try an open circuit, when this one failed before it
+		 * could tell whether the origin is back.
+		 */
+		synchronized void abandoned() {
+			trial = false;
+		}
+
+		synchronized void failed(Exception e) {
+			failures++;
+			if (trial || (!open && failures >= breakerThreshold)) {
+				open = true;
+				trial = false;
+				openUntil = System.currentTimeMillis() + breakerCooldown;
+				l.warn("Origin " + host + " failed " + failures + " times in a row (" + e.getMessage() +
+					"); not trying it again for " + (breakerCooldown / 1000) + " seconds");
+			}
+		}
+	}
+
+	/**
+	 * A request that was not made, because the circuit of its origin is open.
+	 */
+	public static class OpenCircuitException extends IOException {
+
+		private static final long serialVersionUID = 1L;
+
+		public OpenCircuitException(String message) {
+			super(message);
+		}
+	}
+}
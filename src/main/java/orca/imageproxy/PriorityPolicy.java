@@ -0,0 +1,90 @@
+package orca.imageproxy;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Base for policies that evict the candidate with the lowest priority value.
+ * The priority of a candidate is computed when it is offered, and kept until it is
+ * offered again or withdrawn, so the ordering never changes under the tree.
+ * Ties go to the least recently referenced candidate.
+ */
+public abstract class PriorityPolicy implements CachePolicy {
+
+	/**
+	 * A candidate together with the priority it was ranked with.
+	 */
+	protected static class Rank {
+		final Entry entry;
+		final double priority;
+		final long lastRef;
+
+		Rank(Entry entry, double priority) {
+			this.entry = entry;
+			this.priority = priority;
+			this.lastRef = entry.getLastRef();
+		}
+	}
+
+	private final Map<String, Rank> ranks = new HashMap<String, Rank>();
+
+	private final TreeSet<Rank> candidates = new TreeSet<Rank>(new Comparator<Rank>() {
+		public int compare(Rank a, Rank b) {
+			if (a.priority != b.priority)
+				return (a.priority < b.priority) ? -1 : 1;
+			if (a.lastRef != b.lastRef)
+				return (a.lastRef < b.lastRef) ? -1 : 1;
+			return a.entry.getSignature().compareTo(b.entry.getSignature());
+		}
+	});
+
+	/**
+	 * @param e
+	 * @return the priority of the entry; lower is evicted first
+	 */
+	protected abstract double priority(Entry e);
+
+	/**
+	 * Called when the lowest ranked candidate leaves the cache, i.e. when it is evicted.
+	 * @param rank
+	 */
+	protected void evicted(Rank rank) {
+	}
+
+	public void added(Entry e) {
+	}
+
+	public void accessed(Entry e) {
+	}
+
+	public void offer(Entry e) {
+		withdraw(e);
+		Rank rank = new Rank(e, priority(e));
+		ranks.put(e.getSignature(), rank);
+		candidates.add(rank);
+	}
+
+	public void withdraw(Entry e) {
+		Rank rank = ranks.remove(e.getSignature());
+		if (rank != null)
+			candidates.remove(rank);
+	}
+
+	public void removed(Entry e) {
+		Rank rank = ranks.get(e.getSignature());
+		if (rank != null && !candidates.isEmpty() && candidates.first() == rank)
+			evicted(rank);
+		withdraw(e);
+	}
+
+	public Entry victim() {
+		return candidates.isEmpty() ? null : candidates.first().entry;
+	}
+
+	public void clear() {
+		ranks.clear();
+		candidates.clear();
+	}
+}
@@ -0,0 +1,109 @@
+package orca.imageproxy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Writes reference counts, hit counts and reference times to the FILE table behind the
+ * requests that change them. A cache hit or release only marks its file as dirty; a single
+ * thread writes the dirty files in one transaction, every flush interval or as soon as a
+ * batch is full, so a burst of requests for a popular image costs one commit instead of
+ * one per request.
+ * The in-memory index is authoritative for these values. A crash can only lose the last
+ * interval of reference times and hit counts; reference counts are reset on startup anyway,
+ * since the requests that held them are gone.
+ */
+public class ReferenceWriter implements Runnable {
+
+	private Logger l;
+
+	private final SqliteDLDatabase catalog;
+	private final long flushInterval;
+	private final int batchSize;
+
+	// files whose reference fields changed since the last flush, guarded by this
+	private Set<String> dirty = new LinkedHashSet<String>();
+
+	/**
+	 * @param catalog
+	 * @param flushInterval longest time a change waits to be written, in milliseconds
+	 * @param batchSize number of dirty files that triggers a flush before the interval is over
+	 */
+	public ReferenceWriter(SqliteDLDatabase catalog, long flushInterval, int batchSize) {
+		l = Logger.getLogger(this.getClass());
+		this.catalog = catalog;
+		this.flushInterval = flushInterval;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Starts the writer thread, and makes sure pending changes are written when the JVM exits.
+	 */
+	public void start() {
+		Thread thread = new Thread(this, "reference-writer");
+		thread.setDaemon(true);
+		thread.start();
+
+		Runtime.getRuntime().addShutdownHook(new Thread("reference-writer-shutdown") {
+			public void run() {
+				flush();
+			}
+		});
+	}
+
+	/**
+	 * Marks the reference fields of a file as changed.
+	 * @param signature
+	 */
+	public synchronized void touch(String signature) {
+		dirty.add(signature);
+		if (dirty.size() >= batchSize)
+			notifyAll();
+	}
+
+	public void run() {
+		while (true) {
+			synchronized (this) {
+				try {
+					if (dirty.size() < batchSize)
+						wait(flushInterval);
+				}
+				catch (InterruptedException e) {
+					l.info("Reference writer stopped");
+					flush();
+					return;
+				}
+			}
+			flush();
+		}
+	}
+
+	/**
+	 * Writes the changes made so far. Files that could not be written stay dirty
+	 * and are written with the next flush.
+	 */
+	public void flush() {
+		List<String> signatures;
+		synchronized (this) {
+			if (dirty.isEmpty())
+				return;
+			signatures = new ArrayList<String>(dirty);
+			dirty = new LinkedHashSet<String>();
+		}
+
+		try {
+			catalog.writeReferences(signatures);
+		}
+		catch (Exception e) {
+			l.warn("Could not write references of " + signatures.size() + " files; will retry: " +
+				e.getMessage());
+			synchronized (this) {
+				dirty.addAll(signatures);
+			}
+		}
+	}
+}
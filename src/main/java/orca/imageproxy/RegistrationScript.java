@@ -1,25 +1,28 @@
 package orca.imageproxy;
 
+import java.io.ByteArrayInputStream;
+import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
 
 import org.apache.log4j.Logger;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 public class RegistrationScript {
 
@@ -42,6 +45,21 @@ public class RegistrationScript {
     private int testModeSleep = 30000; // in milliseconds
     
     protected SqliteDatabase db;
+    
+    protected ImageIdCache imageIdCache = ImageIdCache.getInstance();
+    
+    protected WorkerPools workerPools = WorkerPools.getInstance();
+    
+    protected MetadataCache metadataCache = MetadataCache.getInstance();
+    
+    // the factory is configured once, and thread safe from then on
+    private static final XMLInputFactory xmlInputFactory = createXMLInputFactory();
+    
+    private static final List<String> validImageTypes = Arrays.asList(
+        Globals.FILE_SYSTEM_IMAGE_KEY, Globals.ZFILE_SYSTEM_IMAGE_KEY, Globals.QCOW2_SYSTEM_IMAGE_KEY,
+        Globals.KERNEL_IMAGE_KEY, Globals.RAMDISK_IMAGE_KEY);
+    
+    private static final List<String> imageFields = Arrays.asList("url", "type", "signature");
 
     public RegistrationScript() throws Exception {
         try{
@@ -66,12 +84,85 @@ public class RegistrationScript {
         }
 
         /**
-         * Method to register images
+         * Method to register images. Image sets that are already registered are answered
+         * from memory.
          * @param url  url for image metadata
          * @param signature hash of the image, to uniquely identify it
          * @return registered image ids, ERROR in case of any exception
          */
         public String RegisterImage(String url, String signature) throws Exception{
+                return register(url, signature, null);
+        }
+
+        /**
+         * Queues the registration of images, to run in the background. Submitting images
+         * that are being registered already returns the ticket of that registration.
+         * @param url  url for image metadata
+         * @param signature hash of the image, to uniquely identify it
+         * @return ticket to ask for the status and the result of the registration with
+         */
+        public String SubmitRegisterImage(String url, String signature) throws Exception{
+                try {
+                        return RegistrationTickets.getInstance().submit(this, url.trim(), signature.trim()).getId();
+                } catch (Exception exception) {
+                        l.error(exception.toString(), exception);
+                        throw exception;
+                }
+        }
+
+        /**
+         * @param ticket ticket returned by SubmitRegisterImage
+         * @return serialized status of the registration: TICKET, SIGNATURE, PHASE
+         * (QUEUED, METADATA, IMAGES, DONE or FAILED), IMAGES as registered/total once the
+         * images are known, ELAPSED in milliseconds, and ERROR if it failed
+         */
+        public String GetRegisterImageStatus(String ticket) throws Exception{
+                RegistrationTicket registration = getTicket(ticket);
+                
+                Properties status = new Properties();
+                status.put("TICKET", registration.getId());
+                status.put("SIGNATURE", registration.getSignature());
+                status.put("PHASE", registration.getPhase());
+                if (registration.getImagesTotal() > 0)
+                        status.put("IMAGES", registration.getImagesDone() + "/" + registration.getImagesTotal());
+                long end = registration.isFinished() ? registration.getFinished() : System.currentTimeMillis();
+                status.put("ELAPSED", Long.toString(end - registration.getCreated()));
+                if (registration.getError() != null)
+                        status.put("ERROR", registration.getError());
+                return toString(status);
+        }
+
+        /**
+         * @param ticket ticket returned by SubmitRegisterImage
+         * @return registered image ids, like RegisterImage; throws if the registration
+         * failed or has not finished yet
+         */
+        public String GetRegisterImageResult(String ticket) throws Exception{
+                RegistrationTicket registration = getTicket(ticket);
+                
+                String phase = registration.getPhase();
+                if (RegistrationTicket.PHASE_DONE.equals(phase))
+                        return registration.getResult();
+                if (RegistrationTicket.PHASE_FAILED.equals(phase))
+                        throw new Exception("Registration for ticket " + ticket + " failed: " + registration.getError());
+                throw new Exception("Registration for ticket " + ticket + " has not finished; phase " + phase);
+        }
+
+        private RegistrationTicket getTicket(String ticket) throws Exception {
+                RegistrationTicket registration = RegistrationTickets.getInstance().get(ticket.trim());
+                if (registration == null)
+                        throw new Exception("Unknown or expired ticket: " + ticket);
+                return registration;
+        }
+
+        /**
+         * Registers images, reporting the progress on the ticket if there is one.
+         * @param url  url for image metadata
+         * @param signature hash of the image, to uniquely identify it
+         * @param ticket ticket of a submitted registration, or null
+         * @return registered image ids
+         */
+        String register(String url, String signature, RegistrationTicket ticket) throws Exception{
 
                 try {
                         Properties imageIds = new Properties();
@@ -98,77 +189,62 @@ public class RegistrationScript {
                                 
                         } else {
                                 
-                                Pair<String, String> downloadInfo = download(signature, url);
-                                String imagePath = downloadInfo.getFirst();
-                                String hash = downloadInfo.getSecond();
-                                
-                                if(!hash.equals(signature)){
-                                        throw new Exception("Provided signature " + signature +
-                                                        " does not match computed signature " +
-                                                        hash + " for metadata file at URL: " + url);
+                                String cached = imageIdCache.get(signature);
+                                if (cached != null) {
+                                        l.debug("Image ids for metadata " + signature + " found in memory");
+                                        touchFiles(signature);
+                                        return cached;
                                 }
+                                long generation = imageIdCache.getGeneration();
+                                
+                                if (ticket != null)
+                                        ticket.metadata();
                                 
                                 String emi, eki, eri, qcow2;
                                 
                                 try{
-                                        l.info("Entering download and registration process");
-                                        
-                                        Map<String, Pair<String, String>> imageInfo = parseMetadata(imagePath);
+                                        Map<String, Pair<String, String>> imageInfo = fetchMetadata(url, signature);
                                         
-                                        SqliteDLDatabase.getInstance().removeReference(signature);
+                                        l.info("Entering download and registration process");
                                         
                                         HashMap<String, Future<String>> downloadRegisterTasks = new HashMap<String, Future<String>>();
-
-                                        if (imageInfo.containsKey(Globals.QCOW2_SYSTEM_IMAGE_KEY)) {
-                                            downloadRegisterTasks.put(Globals.QCOW2_SYSTEM_IMAGE_KEY, downloadAndRegister(imageInfo, Globals.QCOW2_SYSTEM_IMAGE_KEY));
-                                        }
-
-                                        if (imageInfo.containsKey(Globals.FILE_SYSTEM_IMAGE_KEY)) {
-                                            downloadRegisterTasks.put(Globals.FILE_SYSTEM_IMAGE_KEY, downloadAndRegister(imageInfo, Globals.FILE_SYSTEM_IMAGE_KEY));
-                                        }
-                                        else if (imageInfo.containsKey(Globals.ZFILE_SYSTEM_IMAGE_KEY)) {
-                                            downloadRegisterTasks.put(Globals.ZFILE_SYSTEM_IMAGE_KEY, downloadAndRegister(imageInfo, Globals.ZFILE_SYSTEM_IMAGE_KEY));
-                                        }
-                                        else {
-                                            if (!imageInfo.containsKey(Globals.QCOW2_SYSTEM_IMAGE_KEY)) {
-                                                l.error("Valid filesystem image information could not be found in the metadata.");
-                                                //return Globals.ERROR_CODE;
-                                                throw new Exception("Valid filesystem image information could not be found in the metadata.");
-                                            }
-                                        }
-                                                
-                                        if(imageInfo.containsKey(Globals.KERNEL_IMAGE_KEY)){
-                                            l.info("Kernel image information available");
-                                            downloadRegisterTasks.put(Globals.KERNEL_IMAGE_KEY, downloadAndRegister(imageInfo, Globals.KERNEL_IMAGE_KEY));
-                                        }
+                                        for (String type : imageTypes(imageInfo))
+                                            downloadRegisterTasks.put(type, downloadAndRegister(imageInfo, type));
                                         
-                                        if(imageInfo.containsKey(Globals.RAMDISK_IMAGE_KEY)){
-                                            l.info("Ramdisk image information available");
-                                            downloadRegisterTasks.put(Globals.RAMDISK_IMAGE_KEY, downloadAndRegister(imageInfo, Globals.RAMDISK_IMAGE_KEY));
-                                        }
+                                        if (ticket != null)
+                                                ticket.images(downloadRegisterTasks.size());
                                         
                                         Future<String> futStr = downloadRegisterTasks.get(Globals.FILE_SYSTEM_IMAGE_KEY);
                                         if (futStr == null)
                                             futStr = downloadRegisterTasks.get(Globals.ZFILE_SYSTEM_IMAGE_KEY);
                                         if(futStr != null) {
                                             emi = futStr.get();
+                                            imageDone(ticket);
                                             imageIds.put(Globals.FILE_SYSTEM_IMAGE_KEY, emi);
                                         }
                                         if (imageInfo.containsKey(Globals.QCOW2_SYSTEM_IMAGE_KEY)) {
                                             qcow2 = downloadRegisterTasks.get(Globals.QCOW2_SYSTEM_IMAGE_KEY).get();
+                                            imageDone(ticket);
                                             imageIds.put(Globals.QCOW2_SYSTEM_IMAGE_KEY, qcow2);
                                         }
                                         
                                         if (imageInfo.containsKey(Globals.KERNEL_IMAGE_KEY)) {
                                             eki = downloadRegisterTasks.get(Globals.KERNEL_IMAGE_KEY).get();
+                                            imageDone(ticket);
                                             imageIds.put(Globals.KERNEL_IMAGE_KEY, eki);
                                         }
                                         
                                         if (imageInfo.containsKey(Globals.RAMDISK_IMAGE_KEY)) {
                                             eri = downloadRegisterTasks.get(Globals.RAMDISK_IMAGE_KEY).get();
+                                            imageDone(ticket);
                                             imageIds.put(Globals.RAMDISK_IMAGE_KEY, eri);
                                         }
                                         
+                                        List<String> imageSignatures = new ArrayList<String>();
+                                        for (String type : downloadRegisterTasks.keySet())
+                                            imageSignatures.add(imageInfo.get(type).getFirst());
+                                        imageIdCache.put(signature, imageSignatures, toString(imageIds), generation);
+                                        
                                 } catch (Exception exception) {
                                         l.error(exception.toString(), exception);
                                         throw exception;
@@ -183,6 +259,7 @@ public class RegistrationScript {
                             l.info("Kernel Image id: " + imageIds.get(Globals.KERNEL_IMAGE_KEY));
                         if (imageIds.get(Globals.RAMDISK_IMAGE_KEY) != null)
                             l.info("Ramdisk Image id: " + imageIds.get(Globals.RAMDISK_IMAGE_KEY));
+                        l.debug("Workers " + workerPools + "; " + DownloadScheduler.getInstance());
                      
                         return toString(imageIds);
                         
@@ -192,118 +269,328 @@ public class RegistrationScript {
                 }
         }
     
+    /**
+     * Method to register the images of many metadata files at once. The metadata files are
+     * fetched concurrently, and an image that several of them share, like a common kernel,
+     * is downloaded and registered only once for the whole batch.
+     * @param images serialized properties; entry N has its metadata url in N.url and its
+     * signature in N.signature
+     * @return serialized properties with the image ids of entry N as N.FILESYSTEM, N.KERNEL
+     * and so on, or the reason it failed as N.ERROR
+     */
+    public String RegisterImages(String images) throws Exception {
+        try {
+            Properties request = new Properties();
+            request.load(new ByteArrayInputStream(images.getBytes()));
+            
+            // entries, by number
+            SortedMap<Integer, Pair<String, String>> entries = new TreeMap<Integer, Pair<String, String>>();
+            for (String key : request.stringPropertyNames()) {
+                if (!key.endsWith(".url"))
+                    continue;
+                String entry = key.substring(0, key.length() - ".url".length());
+                String signature = request.getProperty(entry + ".signature");
+                try {
+                    entries.put(Integer.valueOf(entry.trim()), new Pair<String, String>(
+                        request.getProperty(key).trim(), (signature == null) ? null : signature.trim()));
+                } catch (NumberFormatException e) {
+                    throw new Exception("Invalid batch entry: " + entry);
+                }
+            }
+            l.info("Registering a batch of " + entries.size() + " metadata files");
+            
+            Properties result = new Properties();
+            long generation = imageIdCache.getGeneration();
+            
+            // image ids by metadata signature, of the entries done already
+            Map<String, String> known = new HashMap<String, String>();
+            
+            // fetch each metadata file once
+            Map<String, Future<Map<String, Pair<String, String>>>> metadata =
+                new HashMap<String, Future<Map<String, Pair<String, String>>>>();
+            for (Map.Entry<Integer, Pair<String, String>> entry : entries.entrySet()) {
+                final String url = entry.getValue().getFirst();
+                final String signature = entry.getValue().getSecond();
+                if (testMode || (signature == null) || metadata.containsKey(signature) || known.containsKey(signature))
+                    continue;
+                String cached = imageIdCache.get(signature);
+                if (cached != null) {
+                    touchFiles(signature);
+                    known.put(signature, cached);
+                    continue;
+                }
+                metadata.put(signature, workerPools.getRequestPool().submit(
+                    new Callable<Map<String, Pair<String, String>>>() {
+                        public Map<String, Pair<String, String>> call() throws Exception {
+                            return fetchMetadata(url, signature);
+                        }
+                    }));
+            }
+            
+            // download and register each image once
+            Map<String, Map<String, Pair<String, String>>> imageInfos = new HashMap<String, Map<String, Pair<String, String>>>();
+            Map<String, Exception> failures = new HashMap<String, Exception>();
+            Map<String, Future<String>> registrations = new HashMap<String, Future<String>>();
+            for (Map.Entry<String, Future<Map<String, Pair<String, String>>>> entry : metadata.entrySet()) {
+                try {
+                    Map<String, Pair<String, String>> imageInfo = get(entry.getValue());
+                    for (String type : imageTypes(imageInfo)) {
+                        String image = type + ":" + imageInfo.get(type).getFirst();
+                        if (!registrations.containsKey(image))
+                            registrations.put(image, downloadAndRegister(imageInfo, type));
+                    }
+                    imageInfos.put(entry.getKey(), imageInfo);
+                } catch (Exception exception) {
+                    failures.put(entry.getKey(), exception);
+                }
+            }
+            l.info("Batch needs " + registrations.size() + " images for " + metadata.size() + " metadata files");
+            
+            // collect the results of each entry
+            for (Map.Entry<Integer, Pair<String, String>> entry : entries.entrySet()) {
+                String prefix = entry.getKey() + ".";
+                String signature = entry.getValue().getSecond();
+                try {
+                    if (signature == null)
+                        throw new Exception("Missing signature");
+                    if (failures.containsKey(signature))
+                        throw failures.get(signature);
+                    
+                    String ids = known.get(signature);
+                    if (testMode) {
+                        ids = register(entry.getValue().getFirst(), signature, null);
+                    } else if (ids == null) {
+                        Map<String, Pair<String, String>> imageInfo = imageInfos.get(signature);
+                        Properties imageIds = new Properties();
+                        List<String> imageSignatures = new ArrayList<String>();
+                        for (String type : imageTypes(imageInfo)) {
+                            String image = type + ":" + imageInfo.get(type).getFirst();
+                            imageIds.put(type.equals(Globals.ZFILE_SYSTEM_IMAGE_KEY) ? Globals.FILE_SYSTEM_IMAGE_KEY : type,
+                                get(registrations.get(image)));
+                            imageSignatures.add(imageInfo.get(type).getFirst());
+                        }
+                        ids = toString(imageIds);
+                        imageIdCache.put(signature, imageSignatures, ids, generation);
+                        known.put(signature, ids);
+                    }
+                    
+                    Properties imageIds = new Properties();
+                    imageIds.load(new ByteArrayInputStream(ids.getBytes()));
+                    for (String type : imageIds.stringPropertyNames())
+                        result.put(prefix + type, imageIds.getProperty(type));
+                } catch (Exception exception) {
+                    l.error("Batch entry " + entry.getKey() + " failed: " + exception.toString());
+                    result.put(prefix + "ERROR", (exception.getMessage() != null) ? exception.getMessage() : exception.toString());
+                }
+            }
+            l.debug("Workers " + workerPools + "; " + DownloadScheduler.getInstance());
+            
+            return toString(result);
+            
+        } catch (Exception exception) {
+            l.error(exception.toString(), exception);
+            throw exception;
+        }
+    }
+    
+    /**
+     * Lets the downloads of an image set be tried again right away, instead of failing fast
+     * until the backoff of their last failure has passed.
+     * @param signature signature of a metadata file, which covers its images if it was
+     * parsed before, or of a single image
+     * @return the signatures whose failures were forgotten, separated by spaces
+     */
+    public String ClearFailedDownloads(String signature) throws Exception {
+        signature = signature.trim();
+        List<String> signatures = new ArrayList<String>();
+        signatures.add(signature);
+        Map<String, Pair<String, String>> imageInfo = metadataCache.get(signature);
+        if (imageInfo != null) {
+            for (Pair<String, String> image : imageInfo.values())
+                signatures.add(image.getFirst());
+        }
+        
+        StringBuilder cleared = new StringBuilder();
+        DownloadFailures downloadFailures = DownloadFailures.getInstance();
+        for (String s : signatures) {
+            if (downloadFailures.clear(s)) {
+                if (cleared.length() > 0)
+                    cleared.append(' ');
+                cleared.append(s);
+            }
+        }
+        l.info("Failed downloads cleared for " + signature + ": " + cleared);
+        return cleared.toString();
+    }
+    
+    /**
+     * Counts a request answered from the image id cache as a use of its metadata file and
+     * image files, as a request that went through the download cache would have.
+     * @param metadataSignature
+     */
+    private void touchFiles(String metadataSignature) throws Exception {
+        SqliteDLDatabase catalog = SqliteDLDatabase.getInstance();
+        catalog.touch(metadataSignature);
+        String[] imageSignatures = imageIdCache.getImageSignatures(metadataSignature);
+        if (imageSignatures != null) {
+            for (String imageSignature : imageSignatures)
+                catalog.touch(imageSignature);
+        }
+    }
+    
+    /**
+     * Waits for a task, with the exception it threw rather than an ExecutionException.
+     */
+    private static <T> T get(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception)
+                throw (Exception) e.getCause();
+            throw e;
+        }
+    }
+    
+    /**
+     * Downloads a metadata file, checks its signature and parses it, unless it was parsed
+     * before.
+     * @param url
+     * @param signature
+     * @return the images it describes: signature and url by image type
+     */
+    private Map<String, Pair<String, String>> fetchMetadata(String url, String signature) throws Exception {
+        Map<String, Pair<String, String>> parsed = metadataCache.get(signature);
+        if (parsed != null) {
+            l.debug("Metadata " + signature + " parsed before");
+            SqliteDLDatabase.getInstance().touch(signature);
+            return parsed;
+        }
+        
+        Pair<String, String> downloadInfo = download(signature, url);
+        String imagePath = downloadInfo.getFirst();
+        String hash = downloadInfo.getSecond();
+        
+        if(!hash.equals(signature)){
+                throw new Exception("Provided signature " + signature +
+                                " does not match computed signature " +
+                                hash + " for metadata file at URL: " + url);
+        }
+        
+        Map<String, Pair<String, String>> imageInfo = parseMetadata(imagePath);
+        
+        SqliteDLDatabase.getInstance().removeReference(signature);
+        
+        return metadataCache.put(signature, imageInfo);
+    }
+    
+    /**
+     * @param imageInfo parsed metadata
+     * @return the image types to download and register
+     * @throws Exception if there is no filesystem image
+     */
+    private List<String> imageTypes(Map<String, Pair<String, String>> imageInfo) throws Exception {
+        List<String> types = new ArrayList<String>();
+        
+        if (imageInfo.containsKey(Globals.QCOW2_SYSTEM_IMAGE_KEY)) {
+            types.add(Globals.QCOW2_SYSTEM_IMAGE_KEY);
+        }
+
+        if (imageInfo.containsKey(Globals.FILE_SYSTEM_IMAGE_KEY)) {
+            types.add(Globals.FILE_SYSTEM_IMAGE_KEY);
+        }
+        else if (imageInfo.containsKey(Globals.ZFILE_SYSTEM_IMAGE_KEY)) {
+            types.add(Globals.ZFILE_SYSTEM_IMAGE_KEY);
+        }
+        else {
+            if (!imageInfo.containsKey(Globals.QCOW2_SYSTEM_IMAGE_KEY)) {
+                l.error("Valid filesystem image information could not be found in the metadata.");
+                throw new Exception("Valid filesystem image information could not be found in the metadata.");
+            }
+        }
+                
+        if(imageInfo.containsKey(Globals.KERNEL_IMAGE_KEY)){
+            l.info("Kernel image information available");
+            types.add(Globals.KERNEL_IMAGE_KEY);
+        }
+        
+        if(imageInfo.containsKey(Globals.RAMDISK_IMAGE_KEY)){
+            l.info("Ramdisk image information available");
+            types.add(Globals.RAMDISK_IMAGE_KEY);
+        }
+        
+        return types;
+    }
+    
+    private static void imageDone(RegistrationTicket ticket) {
+        if (ticket != null)
+            ticket.imageDone();
+    }
+    
     private Future<String> downloadAndRegister(Map<String, Pair<String, String>> imageInfo, String type) throws Exception {
         
         DownloadRegister downloadRegister = new DownloadRegister();
         downloadRegister.setImageInfo(imageInfo);
         downloadRegister.setType(type);
         
-        ExecutorService executorService = Executors.newSingleThreadExecutor();
-        Future<String> downloadRegisterTask = executorService.submit(downloadRegister);
-        executorService.shutdown();
-        
-        return downloadRegisterTask;
+        // kernels and ramdisks are small; they need not wait for the filesystems to start
+        if (Globals.KERNEL_IMAGE_KEY.equals(type) || Globals.RAMDISK_IMAGE_KEY.equals(type))
+            return workerPools.getRegisterSmallPool().submit(downloadRegister);
+        return workerPools.getRegisterPool().submit(downloadRegister);
     }
     
     /**
-     * 
+     * Streams through a metadata file, taking each image as soon as its element ends.
      * @param metadataFilePath
-     * @return
+     * @return signature and url of each image, by image type
      * @throws Exception
      */
     private Map<String, Pair<String, String>> parseMetadata(String metadataFilePath) throws Exception {
         
-        List<String> validImageTypes = new ArrayList<String>();
-        validImageTypes.add(Globals.FILE_SYSTEM_IMAGE_KEY);
-        validImageTypes.add(Globals.ZFILE_SYSTEM_IMAGE_KEY);
-        validImageTypes.add(Globals.QCOW2_SYSTEM_IMAGE_KEY);
-        validImageTypes.add(Globals.KERNEL_IMAGE_KEY);
-        validImageTypes.add(Globals.RAMDISK_IMAGE_KEY);
-        
         Map<String, Pair<String, String>> imageInfo = new HashMap<String, Pair<String,String>>();
         
+        InputStream in = null;
+        XMLStreamReader reader = null;
         try {
-
-            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-            DocumentBuilder db = dbf.newDocumentBuilder();
-          
-            Document doc = db.parse(new File(metadataFilePath));
-            doc.getDocumentElement().normalize();
-          
-            l.info("Root element " + doc.getDocumentElement().getNodeName());
-          
-            l.info("Information of all images");
+            in = new BufferedInputStream(new FileInputStream(metadataFilePath));
+            reader = xmlInputFactory.createXMLStreamReader(in);
             
-            NodeList imgNodeList = doc.getElementsByTagName("image");
+            boolean root = true;
+            // fields of the current image; the first of each kind counts
+            Map<String, String> image = null;
+            String field = null;
+            StringBuilder text = new StringBuilder();
             
-            String type, signature, url;
-            
-            for (int itr = 0; itr < imgNodeList.getLength(); itr++) {
-
-                Node imgNode = imgNodeList.item(itr);
-            
-                if (imgNode.getNodeType() == Node.ELEMENT_NODE) {
-          
-                    Element imgElmnt = (Element) imgNode;
-
-                    NodeList imgUrlElmntLst = imgElmnt.getElementsByTagName("url");
-                    Element imgUrlElmnt = (Element) imgUrlElmntLst.item(0);
-                    NodeList imgUrl = imgUrlElmnt.getChildNodes();
-                    if (imgUrl.getLength() != 0) {
-                        url = ((Node) imgUrl.item(0)).getNodeValue().trim();
-                        if (url.equals("")) {
-                            l.info("URL element cannot be empty.");
-                            continue;
-                        }
-                        else {
-                            l.info("URL: " + url);
-                        }
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    String name = reader.getLocalName();
+                    if (root) {
+                        l.info("Root element " + name);
+                        root = false;
                     }
-                    else {
-                        l.info("URL element missing.");
-                        continue;
+                    if (name.equals("image")) {
+                        image = new HashMap<String, String>();
                     }
-                    
-                    NodeList imgTypeElmntLst = imgElmnt.getElementsByTagName("type");
-                    Element imgTypeElmnt = (Element) imgTypeElmntLst.item(0);
-                    NodeList imgType = imgTypeElmnt.getChildNodes();
-                    if (imgType.getLength() != 0) {
-                        type = ((Node) imgType.item(0)).getNodeValue().trim();
-                        if (validImageTypes.contains(type)) {
-                            l.info("Image Type: "  + type);
-                        }
-                        else {
-                            l.info("Invalid image type: \"" + type +
-                                "\" for image URL: " + url);
-                            continue;
-                        }
+                    else if ((image != null) && (field == null) && imageFields.contains(name) && !image.containsKey(name)) {
+                        field = name;
+                        text.setLength(0);
                     }
-                    else {
-                        l.info("Type element missing for image URL: " + url);
-                        continue;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                    if (field != null)
+                        text.append(reader.getText());
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    if ((field != null) && reader.getLocalName().equals(field)) {
+                        image.put(field, text.toString().trim());
+                        field = null;
                     }
-                    
-                    NodeList imgSignElmntLst =
-                        imgElmnt.getElementsByTagName("signature");
-                    Element imgSignElmnt = (Element) imgSignElmntLst.item(0);
-                    NodeList imgSign = imgSignElmnt.getChildNodes();
-                    if (imgSign.getLength() != 0) {
-                        signature = ((Node) imgSign.item(0)).getNodeValue().trim();
-                        if (signature.equals("")) {
-                            l.info("Signature element cannot be empty " +
-                                "for image URL: " + url);
-                            continue;
-                        }
-                        else {
-                            l.info("Signature: " + signature);
-                        }
-                    }
-                    else {
-                        l.info("Signature element missing for image URL: " + url);
-                        continue;
+                    else if ((image != null) && reader.getLocalName().equals("image")) {
+                        addImage(imageInfo, image);
+                        image = null;
                     }
-                    
-                    imageInfo.put(type, new Pair<String, String>(signature, url));
+                    break;
                 }
             }
             
@@ -312,10 +599,67 @@ public class RegistrationScript {
             l.error("Exception while parsing metadata.");
             throw exception;
         }
+        finally {
+            if (reader != null)
+                reader.close();
+            if (in != null)
+                in.close();
+        }
         
         return imageInfo;
     }
     
+    /**
+     * Takes an image from the metadata, if it is complete and of a valid type.
+     * @param imageInfo images so far, by image type
+     * @param image url, type and signature of the image
+     */
+    private void addImage(Map<String, Pair<String, String>> imageInfo, Map<String, String> image) {
+        String url = image.get("url");
+        if (url == null) {
+            l.info("URL element missing.");
+            return;
+        }
+        if (url.equals("")) {
+            l.info("URL element cannot be empty.");
+            return;
+        }
+        l.info("URL: " + url);
+        
+        String type = image.get("type");
+        if ((type == null) || type.equals("")) {
+            l.info("Type element missing for image URL: " + url);
+            return;
+        }
+        if (!validImageTypes.contains(type)) {
+            l.info("Invalid image type: \"" + type +
+                "\" for image URL: " + url);
+            return;
+        }
+        l.info("Image Type: "  + type);
+        
+        String signature = image.get("signature");
+        if (signature == null) {
+            l.info("Signature element missing for image URL: " + url);
+            return;
+        }
+        if (signature.equals("")) {
+            l.info("Signature element cannot be empty " +
+                "for image URL: " + url);
+            return;
+        }
+        l.info("Signature: " + signature);
+        
+        imageInfo.put(type, new Pair<String, String>(signature, url));
+    }
+    
+    private static XMLInputFactory createXMLInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        return factory;
+    }
+    
     /**
      * Calls the functions to download the required file
      * @param signature
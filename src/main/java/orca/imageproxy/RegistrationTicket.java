@@ -0,0 +1,123 @@
+package orca.imageproxy;
+
+import java.util.UUID;
+
+/**
+ * A registration running in the background, as seen by the client that submitted it.
+ * The registration reports its phase and progress on the ticket as it goes, and finally
+ * its result or the reason it failed.
+ */
+public class RegistrationTicket {
+
+	// phases of a registration, in order; it ends up either DONE or FAILED
+	public static final String PHASE_QUEUED = "QUEUED";
+	public static final String PHASE_METADATA = "METADATA";
+	public static final String PHASE_IMAGES = "IMAGES";
+	public static final String PHASE_DONE = "DONE";
+	public static final String PHASE_FAILED = "FAILED";
+
+	private final String id;
+	private final String url;
+	private final String signature;
+	private final long created;
+
+	// guarded by this
+	private String phase = PHASE_QUEUED;
+	private int imagesTotal = 0;
+	private int imagesDone = 0;
+	private String result;
+	private String error;
+	private long finished = 0;
+
+	public RegistrationTicket(String url, String signature) {
+		this.id = UUID.randomUUID().toString();
+		this.url = url;
+		this.signature = signature;
+		this.created = System.currentTimeMillis();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public String getSignature() {
+		return signature;
+	}
+
+	public long getCreated() {
+		return created;
+	}
+
+	public synchronized String getPhase() {
+		return phase;
+	}
+
+	public synchronized int getImagesTotal() {
+		return imagesTotal;
+	}
+
+	public synchronized int getImagesDone() {
+		return imagesDone;
+	}
+
+	/**
+	 * @return the serialized image ids, once done
+	 */
+	public synchronized String getResult() {
+		return result;
+	}
+
+	/**
+	 * @return why the registration failed, once failed
+	 */
+	public synchronized String getError() {
+		return error;
+	}
+
+	/**
+	 * @return when the registration finished, or 0 if it is still running
+	 */
+	public synchronized long getFinished() {
+		return finished;
+	}
+
+	public synchronized boolean isFinished() {
+		return finished != 0;
+	}
+
+	/**
+	 * The metadata is being fetched.
+	 */
+	public synchronized void metadata() {
+		phase = PHASE_METADATA;
+	}
+
+	/**
+	 * The images are being downloaded and registered.
+	 * @param total number of images
+	 */
+	public synchronized void images(int total) {
+		phase = PHASE_IMAGES;
+		imagesTotal = total;
+	}
+
+	public synchronized void imageDone() {
+		imagesDone++;
+	}
+
+	public synchronized void done(String result) {
+		this.result = result;
+		phase = PHASE_DONE;
+		finished = System.currentTimeMillis();
+	}
+
+	public synchronized void failed(Exception e) {
+		error = (e.getMessage() != null) ? e.getMessage() : e.toString();
+		phase = PHASE_FAILED;
+		finished = System.currentTimeMillis();
+	}
+}
@@ -0,0 +1,115 @@
+package orca.imageproxy;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Registrations submitted to run in the background, so a client need not hold a request
+ * open while a cold image is downloaded and registered. Each submission gets a ticket,
+ * which the client then uses to ask how far the registration got and, once it is done,
+ * for the image ids. Submitting a signature that is already being registered returns the
+ * ticket of the running registration.
+ * Finished tickets are forgotten after a while.
+ */
+public class RegistrationTickets {
+
+	private static final String ticketLifetimeProperty = "imageproxy.tickets.lifetime";
+
+	private static RegistrationTickets registrationTickets;
+
+	private Logger l;
+
+	// how long a finished ticket is kept, in milliseconds
+	private final long lifetime;
+
+	private final ConcurrentHashMap<String, RegistrationTicket> tickets =
+		new ConcurrentHashMap<String, RegistrationTicket>();
+
+	// tickets of the running registrations, by metadata signature
+	private final ConcurrentHashMap<String, RegistrationTicket> running =
+		new ConcurrentHashMap<String, RegistrationTicket>();
+
+	public synchronized static RegistrationTickets getInstance() {
+		if (registrationTickets == null)
+			registrationTickets = new RegistrationTickets();
+		return registrationTickets;
+	}
+
+	private RegistrationTickets() {
+		l = Logger.getLogger(this.getClass());
+		lifetime = Math.max(1, Globals.getInstance().getLongProperty(ticketLifetimeProperty, 3600)) * 1000;
+	}
+
+	/**
+	 * Queues a registration, unless one for the same signature is running already.
+	 * @param script does the registration
+	 * @param url
+	 * @param signature
+	 * @return the ticket of the registration
+	 */
+	public RegistrationTicket submit(final RegistrationScript script, String url, String signature) {
+		expire();
+
+		final RegistrationTicket ticket = new RegistrationTicket(url, signature);
+		RegistrationTicket existing = running.putIfAbsent(signature, ticket);
+		if (existing != null) {
+			l.info("Registration of " + signature + " is already running, under ticket " + existing.getId());
+			return existing;
+		}
+		tickets.put(ticket.getId(), ticket);
+
+		try {
+			WorkerPools.getInstance().getRequestPool().execute(new Runnable() {
+				public void run() {
+					try {
+						ticket.done(script.register(ticket.getUrl(), ticket.getSignature(), ticket));
+					}
+					catch (Exception e) {
+						ticket.failed(e);
+					}
+					finally {
+						running.remove(ticket.getSignature(), ticket);
+					}
+					l.info("Ticket " + ticket.getId() + " finished: " + ticket.getPhase());
+				}
+			});
+		}
+		catch (RuntimeException e) {
+			// the pool is shutting down
+			running.remove(signature, ticket);
+			tickets.remove(ticket.getId());
+			throw e;
+		}
+
+		l.info("Registration of " + signature + " queued under ticket " + ticket.getId());
+		return ticket;
+	}
+
+	/**
+	 * @param id
+	 * @return the ticket, or null if there is no such ticket (anymore)
+	 */
+	public RegistrationTicket get(String id) {
+		expire();
+		return tickets.get(id);
+	}
+
+	public int size() {
+		return tickets.size();
+	}
+
+	/**
+	 * Forgets the tickets that finished longer ago than their lifetime.
+	 */
+	private void expire() {
+		long cutoff = System.currentTimeMillis() - lifetime;
+		Iterator<RegistrationTicket> itr = tickets.values().iterator();
+		while (itr.hasNext()) {
+			RegistrationTicket ticket = itr.next();
+			if (ticket.isFinished() && ticket.getFinished() < cutoff)
+				itr.remove();
+		}
+	}
+}
@@ -0,0 +1,296 @@
+package orca.imageproxy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Fetches a single file over several concurrent HTTP range requests.
+ * The file is preallocated and every segment is written straight into its place.
+ * Segments are fed into the digest in file order as soon as they and all the
+ * segments before them have landed, so most of the hashing overlaps the transfer.
+ */
+public class SegmentedDownload {
+
+	private static final int DIGEST_BUFFER_SIZE = 1024 * 1024;
+
+	private Logger l;
+
+	private final URL url;
+	private final File file;
+	private final long offset;
+	private final long length;
+	private final int segments;
+	private final long segmentSize;
+
+	private FileChannel channel;
+	private MessageDigest digest;
+	private DownloadCheckpoint checkpoint;
+
+	// completion state, guarded by this
+	private final boolean[] complete;
+	private final long[] written;
+	private int digested = 0;
+	private boolean hashing = false;
+
+	/**
+	 * @param url
+	 * @param file file to download into; it will be sized to the full length
+	 * @param offset length of the prefix that is already on disk and in the digest
+	 * @param length total size of the remote file
+	 * @param segments number of ranges to split the rest of the file into
+	 */
+	public SegmentedDownload(URL url, File file, long offset, long length, int segments) {
+		l = Logger.getLogger(this.getClass());
+		this.url = url;
+		this.file = file;
+		this.offset = offset;
+		this.length = length;
+		this.segments = segments;
+		this.segmentSize = (length - offset + segments - 1) / segments;
+		this.complete = new boolean[segments];
+		this.written = new long[segments];
+	}
+
+	/**
+	 * @param checkpoint where to record the contiguous downloaded prefix as it grows; may be null
+	 */
+	public void setCheckpoint(DownloadCheckpoint checkpoint) {
+		this.checkpoint = checkpoint;
+	}
+
+	/**
+	 * Downloads the whole file.
+	 * @param firstSegment an already open response body positioned at the start offset;
+	 *        only the bytes of the first segment are read from it
+	 * @param digest digest to feed the file contents into, in order
+	 * @return number of bytes downloaded
+	 * @throws IOException
+	 */
+	public long download(ReadableByteChannel firstSegment, MessageDigest digest) throws IOException {
+		long start = System.currentTimeMillis();
+		this.digest = digest;
+
+		RandomAccessFile raf;
+		try {
+			raf = new RandomAccessFile(file, "rw");
+		}
+		catch (IOException e) {
+			throw new LocalIOException("Could not open " + file.getPath() + " ; reason was: " + e.getMessage(), e);
+		}
+		List<Future<Long>> tasks = new ArrayList<Future<Long>>();
+		try {
+			try {
+				raf.setLength(length);
+			}
+			catch (IOException e) {
+				throw new LocalIOException("Could not size " + file.getPath() + " ; reason was: " +
+					e.getMessage(), e);
+			}
+			channel = raf.getChannel();
+
+			// the other segments share the download workers with every other download
+			WorkerPool pool = WorkerPools.getInstance().getDownloadPool();
+			for (int i = 1; i < segments; i++)
+				tasks.add(pool.submit(new SegmentFetcher(i)));
+
+			// the connection that was opened to look at the file supplies the first range
+			fetch(0, firstSegment);
+
+			for (Future<Long> task : tasks) {
+				try {
+					task.get();
+				}
+				catch (InterruptedException e) {
+					throw new IOException("Interrupted while waiting for segments of " + url);
+				}
+				catch (ExecutionException e) {
+					if (e.getCause() instanceof IOException)
+						throw (IOException) e.getCause();
+					throw new IOException("Segment download failed for " + url +
+							" ; reason was: " + e.getCause());
+				}
+			}
+
+			synchronized (this) {
+				if (digested != segments)
+					throw new IOException("Only " + digested + " of " + segments +
+							" segments were verified for " + url);
+			}
+		}
+		finally {
+			for (Future<Long> task : tasks)
+				task.cancel(true);
+			raf.close();
+		}
+
+		long elapsed = Math.max(1, System.currentTimeMillis() - start);
+		l.info("Downloaded " + (length - offset) + " bytes in " + segments + " segments in " +
+			elapsed + " ms (" + (((length - offset) * 1000) / elapsed) + " bytes/sec)");
+
+		return length - offset;
+	}
+
+	private long segmentStart(int index) {
+		return offset + index * segmentSize;
+	}
+
+	private long segmentEnd(int index) {
+		return Math.min(length, offset + (index + 1) * segmentSize);
+	}
+
+	/**
+	 * @return end of the prefix of the file that has been completely written
+	 */
+	private synchronized long contiguousLength() {
+		long end = offset;
+		for (int i = 0; i < segments; i++) {
+			if (complete[i]) {
+				end = segmentEnd(i);
+			}
+			else {
+				end = segmentStart(i) + written[i];
+				break;
+			}
+		}
+		return end;
+	}
+
+	private synchronized void segmentProgress(int index, long position) {
+		written[index] = position - segmentStart(index);
+	}
+
+	/**
+	 * Copies one segment from the given body into the file, then hands it to the digest.
+	 */
+	private long fetch(final int index, ReadableByteChannel source) throws IOException {
+		long expected = segmentEnd(index) - segmentStart(index);
+		ChannelTransfer transfer = new ChannelTransfer();
+		transfer.setProgressListener(new ChannelTransfer.ProgressListener() {
+			public void progress(long position) throws IOException {
+				segmentProgress(index, position);
+				if (checkpoint != null)
+					checkpoint.update(channel, contiguousLength());
+			}
+		});
+		long count = transfer.transfer(source, channel, segmentStart(index), expected, null);
+		if (count != expected)
+			throw new IOException("Segment " + index + " of " + url + " was truncated: got " +
+					count + " of " + expected + " bytes");
+
+		segmentComplete(index);
+		return count;
+	}
+
+	/**
+	 * Records a finished segment and hashes every segment that is now contiguous with
+	 * the already digested prefix. Only one thread hashes at a time; any other thread
+	 * finishing meanwhile leaves its segment for the hashing thread to pick up.
+	 */
+	private void segmentComplete(int index) throws IOException {
+		synchronized (this) {
+			complete[index] = true;
+			if (hashing)
+				return;
+			hashing = true;
+		}
+
+		try {
+			while (true) {
+				int next;
+				synchronized (this) {
+					if (digested == segments || !complete[digested]) {
+						hashing = false;
+						return;
+					}
+					next = digested;
+				}
+				hashSegment(next);
+				synchronized (this) {
+					digested++;
+				}
+			}
+		}
+		catch (IOException e) {
+			synchronized (this) {
+				hashing = false;
+			}
+			throw e;
+		}
+	}
+
+	private void hashSegment(int index) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(DIGEST_BUFFER_SIZE);
+		long position = segmentStart(index);
+		long end = segmentEnd(index);
+
+		while (position < end) {
+			buffer.clear();
+			buffer.limit((int) Math.min(buffer.capacity(), end - position));
+			int count;
+			try {
+				count = channel.read(buffer, position);
+			}
+			catch (IOException e) {
+				throw new LocalIOException("Could not read " + file.getPath() + " while hashing ; reason was: " +
+					e.getMessage(), e);
+			}
+			if (count <= 0)
+				throw new LocalIOException("Unexpected end of file while hashing " + file.getPath());
+			digest.update(buffer.array(), 0, count);
+			position += count;
+		}
+	}
+
+	/**
+	 * Fetches one range of the file over its own connection.
+	 */
+	private class SegmentFetcher implements Callable<Long> {
+
+		private final int index;
+
+		SegmentFetcher(int index) {
+			this.index = index;
+		}
+
+		public Long call() throws Exception {
+			String range = "bytes=" + segmentStart(index) + "-" + (segmentEnd(index) - 1);
+
+			HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+			Origins.getInstance().configure(connection);
+			connection.setRequestProperty("Range", range);
+
+			ReadableByteChannel source;
+			try {
+				if (connection.getResponseCode() != HttpURLConnection.HTTP_PARTIAL)
+					throw new IOException("Origin did not honour range request " + range +
+							" for " + url + " (HTTP " + connection.getResponseCode() + ")");
+				source = Channels.newChannel(connection.getInputStream());
+			}
+			catch (IOException ioException) {
+				connection.disconnect();
+				throw new IOException("Error encountered while fetching " + range +
+						" of URL: " + url + " ; reason was: " + ioException.getMessage());
+			}
+
+			try {
+				return fetch(index, source);
+			}
+			finally { source.close(); }
+		}
+	}
+}
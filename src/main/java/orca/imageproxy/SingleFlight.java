@@ -0,0 +1,100 @@
+package orca.imageproxy;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Coalesces concurrent work on the same key: the first caller for a key runs the work in its
+ * own thread, and everybody who asks for the same key meanwhile waits for that run instead of
+ * starting another. All of them get the same result, or the same exception.
+ * A key is free again as soon as its work has finished, so the next caller starts a new run.
+ * @param <V> result of the work
+ */
+public class SingleFlight<V> {
+
+	private final ConcurrentHashMap<String, FutureTask<V>> flights =
+		new ConcurrentHashMap<String, FutureTask<V>>();
+
+	/**
+	 * Runs the work for a key, or joins the run already in progress for it.
+	 * @param key
+	 * @param work
+	 * @return the run, finished
+	 */
+	public Flight<V> join(String key, Callable<V> work) {
+		FutureTask<V> task = new FutureTask<V>(work);
+		FutureTask<V> running = flights.putIfAbsent(key, task);
+		if (running != null)
+			return new Flight<V>(running, false);
+
+		try {
+			task.run();
+		}
+		finally {
+			flights.remove(key, task);
+		}
+		return new Flight<V>(task, true);
+	}
+
+	/**
+	 * @return number of keys with work in progress
+	 */
+	public int size() {
+		return flights.size();
+	}
+
+	/**
+	 * A run of the work for one key, as seen by one of its callers.
+	 */
+	public static class Flight<V> {
+
+		private final FutureTask<V> task;
+		private final boolean leader;
+
+		Flight(FutureTask<V> task, boolean leader) {
+			this.task = task;
+			this.leader = leader;
+		}
+
+		/**
+		 * @return true if the work ran in this caller's thread
+		 */
+		public boolean isLeader() {
+			return leader;
+		}
+
+		/**
+		 * Waits for the work to finish.
+		 * @return the result of the work
+		 * @throws Exception the exception the work threw
+		 */
+		public V get() throws Exception {
+			boolean interrupted = false;
+			try {
+				while (true) {
+					try {
+						return task.get();
+					}
+					catch (InterruptedException e) {
+						// the run goes on without us; keep waiting for it, like the leader does
+						interrupted = true;
+					}
+					catch (ExecutionException e) {
+						Throwable cause = e.getCause();
+						if (cause instanceof Exception)
+							throw (Exception) cause;
+						if (cause instanceof Error)
+							throw (Error) cause;
+						throw e;
+					}
+				}
+			}
+			finally {
+				if (interrupted)
+					Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
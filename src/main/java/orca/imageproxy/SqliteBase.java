@@ -2,12 +2,14 @@ package orca.imageproxy;
 
 import java.io.IOException;
 import java.sql.Connection;
-import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.log4j.Logger;
 import org.apache.log4j.PropertyConfigurator;
@@ -16,6 +18,10 @@ public class SqliteBase {
 
     // configuration properties
     public static final String PropertyImageProxyDb = "db.imageproxy.db";
+    public static final String PropertyPoolSize = "db.imageproxy.poolSize";
+    public static final String PropertyJournalMode = "db.imageproxy.journalMode";
+    public static final String PropertySynchronous = "db.imageproxy.synchronous";
+    public static final String PropertyCacheSize = "db.imageproxy.cacheSize";
 
     protected boolean initialized = false;
     protected boolean resetState = false;
@@ -40,6 +46,18 @@ public class SqliteBase {
      */
     protected final String driverPath = "org.sqlite.JDBC";
 
+    /**
+     * Open connections to the database.
+     */
+    protected ConnectionPool pool;
+
+    /**
+     * Serializes writes. Readers never wait for it: in WAL mode they read the last committed
+     * state while a write is in progress, but SQLite allows only one writer at a time, and
+     * all catalogs of this process share one database file.
+     */
+    protected static final ReentrantLock writeLock = new ReentrantLock();
+
     /**
      * Creates a new instance.
      * @throws SQLException 
@@ -66,6 +84,33 @@ public class SqliteBase {
         if (db == null) {
             db = "imageproxy.db";
         }
+
+        int poolSize = 4;
+        String poolSizeString = p.getProperty(PropertyPoolSize);
+        if (poolSizeString != null && poolSizeString.trim().length() > 0) {
+            try {
+                poolSize = Integer.parseInt(poolSizeString.trim());
+            }
+            catch (NumberFormatException e) {
+                logger.error("Invalid value specified for property: " + PropertyPoolSize);
+                logger.error("Falling back to default value (" + poolSize + ").");
+            }
+        }
+
+        List<String> pragmas = new ArrayList<String>();
+        addPragma(pragmas, "journal_mode", p.getProperty(PropertyJournalMode, "WAL"));
+        addPragma(pragmas, "synchronous", p.getProperty(PropertySynchronous, "NORMAL"));
+        addPragma(pragmas, "cache_size", p.getProperty(PropertyCacheSize));
+
+        if (pool != null)
+            pool.close();
+        pool = new ConnectionPool(source + db, poolSize, pragmas);
+    }
+
+    private static void addPragma(List<String> pragmas, String name, String value)
+    {
+        if (value != null && value.trim().length() > 0)
+            pragmas.add("PRAGMA " + name + " = " + value.trim());
     }
 
     /**
@@ -75,7 +120,7 @@ public class SqliteBase {
      */
     public Connection getConnection() throws SQLException
     {
-        return DriverManager.getConnection(source + db);
+        return pool.getConnection();
     }
 
     public void initialize() throws ClassNotFoundException, SQLException, IOException
@@ -114,25 +159,98 @@ public class SqliteBase {
 	    if (resetState) resetDB();
     }
     
-    protected synchronized int executeUpdate(String query) throws SQLException{
+    /**
+     * Runs a single statement, which commits by itself.
+     * @param sql statement, with a ? for each parameter
+     * @param params values for the parameters, in order
+     * @return number of rows changed
+     * @throws SQLException
+     */
+    protected int executeUpdate(String sql, Object... params) throws SQLException{
+    	writeLock.lock();
+    	try {
+    		return executeUpdateLocked(sql, params);
+    	}
+    	finally { writeLock.unlock(); }
+    }
+
+    private int executeUpdateLocked(String sql, Object... params) throws SQLException{
+    	Connection connection = getConnection();
+
+	try {
+    		PreparedStatement statement = prepare(connection, sql, params);
+		try {
+			int rv = statement.executeUpdate();
+			return rv;
+		}
+		finally { statement.close(); }
+	}
+	finally {
+		connection.close();
+	}
+    }
+
+    /**
+     * Runs a statement once for each set of parameters, all in one transaction.
+     * @param sql statement, with a ? for each parameter
+     * @param rows values for the parameters of each run, in order
+     * @return number of rows changed by each run
+     * @throws SQLException
+     */
+    protected int[] executeBatch(String sql, List<Object[]> rows) throws SQLException{
+    	writeLock.lock();
+    	try {
+    		return executeBatchLocked(sql, rows);
+    	}
+    	finally { writeLock.unlock(); }
+    }
+
+    private int[] executeBatchLocked(String sql, List<Object[]> rows) throws SQLException{
     	Connection connection = getConnection();
 
 	try {
 		connection.setAutoCommit(false);
-    		Statement statement = connection.createStatement();
+		PreparedStatement statement = prepare(connection, sql);
 		try {
-			statement.setQueryTimeout(Globals.JDBC_OPERATION_TIMEOUT);
-			int rv = statement.executeUpdate(query);
+			for (Object[] params : rows) {
+				for (int i = 0; i < params.length; i++)
+					statement.setObject(i + 1, params[i]);
+				statement.addBatch();
+			}
+			int[] rv = statement.executeBatch();
+			connection.commit();
 			return rv;
 		}
 		finally { statement.close(); }
 	}
 	finally {
-		connection.commit();
-		connection.setAutoCommit(true);
+		// rolls back unless committed
 		connection.close();
 	}
     }
+
+    /**
+     * Prepares a statement and binds its parameters. On a pooled connection the
+     * statement comes from the connection's cache, so it is only parsed once.
+     * @param connection
+     * @param sql statement, with a ? for each parameter
+     * @param params values for the parameters, in order
+     * @return the statement, to be closed by the caller
+     * @throws SQLException
+     */
+    protected static PreparedStatement prepare(Connection connection, String sql, Object... params) throws SQLException{
+	PreparedStatement statement = connection.prepareStatement(sql);
+	try {
+		statement.setQueryTimeout(Globals.JDBC_OPERATION_TIMEOUT);
+		for (int i = 0; i < params.length; i++)
+			statement.setObject(i + 1, params[i]);
+	}
+	catch (SQLException e) {
+		statement.close();
+		throw e;
+	}
+	return statement;
+    }
     
     /**
      * Resets the database to a clean state.
@@ -4,24 +4,99 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.locks.Lock;
 
 public class SqliteDLDatabase extends SqliteBase{
 
 	public final static String filestable = "FILE";
 	public final static String moststaleview = "MOSTSTALEVIEW";
 	
+	// values of the STATUS column
+	public final static int STATUS_DOWNLOADING = 0;
+	public final static int STATUS_COMPLETE = 1;
+	// an interrupted http download that can be resumed by the next request for it
+	public final static int STATUS_PARTIAL = 2;
+	
+	// columns added after the original FILE table layout, with their types
+	private final static String[][] addedColumns = {
+		{ "BYTESCOMMITTED", "UNSIGNED BIG INT" },
+		{ "ETAG", "STRING" },
+		{ "LASTMODIFIED", "STRING" },
+		{ "HITS", "UNSIGNED BIG INT" },
+		{ "FETCHTIME", "BIG INT" },
+		{ "REGISTERTIME", "BIG INT" }
+	};
+	
+	// statements used by the catalog, prepared once per connection.
+	// Every state transition is a single statement, relative to the row's current state,
+	// so it is atomic by itself and commits in one transaction.
+	private final static String SQL_CLAIM_PARTIAL = "UPDATE " + filestable +
+		" SET STATUS = ?, FILEPATH = ?, ACTIVEREF = 1, LASTREF = ? WHERE SIGNATURE = ? AND STATUS = ?";
+	// reference fields are written behind, see ReferenceWriter
+	private final static String SQL_WRITE_REFERENCES = "UPDATE " + filestable +
+		" SET ACTIVEREF = ?, HITS = ?, LASTREF = ? WHERE SIGNATURE = ?";
+	private final static String SQL_RESET_REFERENCES = "UPDATE " + filestable +
+		" SET ACTIVEREF = 0 WHERE ACTIVEREF <> 0";
+	private final static String SQL_BEGIN_TRANSFER = "UPDATE " + filestable +
+		" SET ETAG = ?, LASTMODIFIED = ?, BYTESCOMMITTED = ? WHERE SIGNATURE = ?";
+	private final static String SQL_COMPLETE = "UPDATE " + filestable +
+		" SET FILEPATH = ?, TORRENTFILEPATH = COALESCE(?, TORRENTFILEPATH), STATUS = ?" +
+		" WHERE SIGNATURE = ? AND STATUS = ?";
+	private final static String SQL_INSERT = "INSERT INTO " + filestable +
+		" (SIGNATURE, FILEPATH, FILESIZE, ACTIVEREF, SEEDING, STATUS, LASTREF, DOWNLOADTYPE, URL," +
+		" TORRENTFILEPATH, BYTESCOMMITTED, HITS, FETCHTIME, REGISTERTIME)" +
+		" VALUES (?, ?, 0, 1, 0, ?, ?, ?, ?, NULL, 0, 0, 0, 0)";
+	private final static String SQL_UPDATE_FILESIZE = "UPDATE " + filestable + " SET FILESIZE = ? WHERE SIGNATURE = ?";
+	private final static String SQL_UPDATE_FILEPATH = "UPDATE " + filestable + " SET FILEPATH = ? WHERE SIGNATURE = ?";
+	private final static String SQL_UPDATE_STATUS = "UPDATE " + filestable + " SET STATUS = ? WHERE SIGNATURE = ?";
+	private final static String SQL_UPDATE_TORRENTFILEPATH = "UPDATE " + filestable + " SET TORRENTFILEPATH = ? WHERE SIGNATURE = ?";
+	private final static String SQL_UPDATE_BYTESCOMMITTED = "UPDATE " + filestable + " SET BYTESCOMMITTED = ? WHERE SIGNATURE = ?";
+	private final static String SQL_UPDATE_FETCHTIME = "UPDATE " + filestable + " SET FETCHTIME = ? WHERE SIGNATURE = ?";
+	private final static String SQL_UPDATE_REGISTERTIME = "UPDATE " + filestable + " SET REGISTERTIME = ? WHERE SIGNATURE = ?";
+	private final static String SQL_MARK_RESUMABLE = "UPDATE " + filestable +
+		" SET STATUS = ?, ACTIVEREF = 0, FILEPATH = ? WHERE SIGNATURE = ?";
+	private final static String SQL_DELETE = "DELETE FROM " + filestable + " WHERE SIGNATURE = ?";
+	private final static String SQL_SELECT = "SELECT * FROM " + filestable + " WHERE SIGNATURE = ?";
+	private final static String SQL_SELECT_BY_STATUS = "SELECT * FROM " + filestable + " WHERE STATUS = ?";
+	private final static String SQL_SELECT_ALL = "SELECT * FROM " + filestable + " ORDER BY LASTREF";
+	
+	private static final String flushIntervalProperty = "db.imageproxy.referenceFlushInterval";
+	private static final String flushBatchSizeProperty = "db.imageproxy.referenceFlushBatchSize";
+	
 	private static SqliteDLDatabase dldatabase;
 	
+	// in-memory copy of the FILE table, which answers all lookups
+	private final CacheIndex cacheIndex;
+	
+	// writes reference counts, hits and reference times behind the requests
+	private final ReferenceWriter referenceWriter;
+	
+	// serializes the transitions of each entry; lookups do not take them
+	private final StripedLock entryLocks = new StripedLock(64);
+	
 	protected SqliteDLDatabase() throws Exception {
 		super();
+		cacheIndex = new CacheIndex(CacheIndex.createPolicy(
+				Globals.getInstance().getProperties().getProperty(CacheIndex.cachePolicyProperty)));
+		logger.info("Download cache uses the " + cacheIndex.getPolicy().getName() + " eviction policy");
 		determineBootMode();
 		initialize();
+		// nobody holds a reference to a file across a restart
+		executeUpdate(SQL_RESET_REFERENCES);
+		loadIndex();
+		
+		Globals globals = Globals.getInstance();
+		referenceWriter = new ReferenceWriter(this,
+				Math.max(1, globals.getLongProperty(flushIntervalProperty, 1000)),
+				(int) Math.max(1, globals.getLongProperty(flushBatchSizeProperty, 256)));
+		referenceWriter.start();
 	}
 	
 	public synchronized static SqliteDLDatabase getInstance() throws Exception{
@@ -56,116 +131,215 @@ public class SqliteDLDatabase extends SqliteBase{
     /**
      * Function to check if an entry for a given signature already exists. 
      * Also, in case mark = true, creates a new entry if one does not exist.
+     * The lookup is answered from memory. Marking a cached file only counts the reference
+     * in memory, to be written behind; claiming or adding an entry writes to the database
+     * with a single statement. Lookups run concurrently; marking holds the entry's lock.
      * @param signature
      * @param mark
      * @return location of the file, if the file exists
      * @return null, if the file does not exist
      * @throws SQLException
      */
-    public synchronized String checkDownloadList(String signature, boolean mark, String url, String downloadType) throws SQLException{
-		String query = "SELECT * FROM " + filestable + " WHERE SIGNATURE = " + dbString(signature);
-		Connection connection = getConnection();
-		String path = null;
+    public String checkDownloadList(String signature, boolean mark, String url, String downloadType) throws SQLException{
+		if (!mark)
+			return lookup(cacheIndex.get(signature));
+		
+		Lock lock = entryLocks.get(signature);
+		lock.lock();
 		try {
-			Statement statement = connection.createStatement();
-			int newActiveRef = 1;
-			try {
-				statement.setQueryTimeout(Globals.JDBC_OPERATION_TIMEOUT);
-				ResultSet rs = statement.executeQuery(query);
-				try {
-					if (rs.next()) {
-						path = rs.getString("FILEPATH");
-						newActiveRef = rs.getInt("ACTIVEREF") + 1;
-					}
-				}
-				finally { rs.close(); }
-				if (mark) {
-					if (path != null) {
-						query = "UPDATE " + filestable + " SET " +
-							"ACTIVEREF=" + newActiveRef + ", " +
-							"LASTREF=" + System.currentTimeMillis() + " " +
-							"WHERE SIGNATURE=" + dbString(signature);
-					}
-					else {
-					// SIGNATURE, FILEPATH, FILESIZE, ACTIVEREF, SEEDING, STATUS,
-					// LASTREF, DOWNLOADTYPE, URL, TORRENTFILEPATH
-						query = "INSERT INTO " + filestable + " VALUES (" + 
-						dbString(signature) + ", " +
-						dbString(Globals.IMAGE_INPROGRESS) +
-						", 0, 1, 0, 0, " + System.currentTimeMillis() + ", " +
-						dbString(downloadType) + ", " + dbString(url) + ", null)";
-					}
-					statement.executeUpdate(query);
-				}
-			}
-			finally { statement.close(); }
+			return mark(signature, url, downloadType);
+		}
+		finally { lock.unlock(); }
+	}
+    
+    /**
+     * @param e entry from the index; may be null
+     * @return location of the file, or null if it is not available
+     */
+    private static String lookup(Entry e) {
+		// a partial download is only a head start for whoever downloads it next
+		if (e == null || e.getStatus() == STATUS_PARTIAL)
+			return null;
+		return e.getFilePath();
+	}
+    
+    private String mark(String signature, String url, String downloadType) throws SQLException{
+		Entry e = cacheIndex.get(signature);
+		String path = lookup(e);
+		boolean partial = (e != null && e.getStatus() == STATUS_PARTIAL);
+		
+		long now = System.currentTimeMillis();
+		if (partial) {
+			// claim it; the caller resumes the download
+			executeUpdate(SQL_CLAIM_PARTIAL, STATUS_DOWNLOADING, Globals.IMAGE_INPROGRESS, now, signature,
+					STATUS_PARTIAL);
+			cacheIndex.setFilePath(signature, Globals.IMAGE_INPROGRESS);
+			cacheIndex.setStatus(signature, STATUS_DOWNLOADING);
+			cacheIndex.reference(signature, now);
+			cacheIndex.miss();
+			referenceWriter.touch(signature);
+		}
+		else if (path != null) {
+			cacheIndex.hit(signature, now);
+			referenceWriter.touch(signature);
+		}
+		else {
+			executeUpdate(SQL_INSERT, signature, Globals.IMAGE_INPROGRESS, STATUS_DOWNLOADING, now,
+					downloadType, url);
+			
+			Entry added = new Entry(signature, 0, 1, Globals.IMAGE_INPROGRESS, downloadType, null);
+			added.setStatus(STATUS_DOWNLOADING);
+			added.setLastRef(now);
+			cacheIndex.put(added);
+			cacheIndex.miss();
 		}
-		finally { connection.close(); }
 
 		return path;
 	}
     
-    public synchronized void updateFileSize(String signature, long fileSize) throws SQLException{
-		String query = "UPDATE " + filestable + " SET FILESIZE = " + fileSize + " WHERE SIGNATURE = " + dbString(signature);
-		executeUpdate(query);
+    /**
+     * Takes a reference to a file, but only if it is completely downloaded.
+     * Never creates an entry.
+     * @param signature
+     * @return location of the file, or null if it is not in the cache (anymore)
+     */
+    public String addReference(String signature) {
+		Lock lock = entryLocks.get(signature);
+		lock.lock();
+		try {
+			Entry e = cacheIndex.get(signature);
+			if (e == null || e.getStatus() != STATUS_COMPLETE)
+				return null;
+			cacheIndex.hit(signature, System.currentTimeMillis());
+			referenceWriter.touch(signature);
+			return e.getFilePath();
+		}
+		finally { lock.unlock(); }
+	}
+    
+    /**
+     * Counts a request that was answered from memory as a use of a file, so that the
+     * cache policy does not take a file in use for an idle one. Takes no reference.
+     * @param signature
+     */
+    public void touch(String signature) {
+		cacheIndex.touch(signature, System.currentTimeMillis());
+		referenceWriter.touch(signature);
+	}
+    
+    public void updateFileSize(String signature, long fileSize) throws SQLException{
+		executeUpdate(SQL_UPDATE_FILESIZE, fileSize, signature);
+		cacheIndex.setFilesize(signature, fileSize);
+	}
+    
+    public void updateFilePath(String signature, String path) throws SQLException{
+		executeUpdate(SQL_UPDATE_FILEPATH, path, signature);
+		cacheIndex.setFilePath(signature, path);
+	}
+    
+    public void updateDownloadStatus(String signature, int status) throws SQLException{
+		executeUpdate(SQL_UPDATE_STATUS, status, signature);
+		cacheIndex.setStatus(signature, status);
+	}
+    
+    public void updateTorrentFilePath(String signature, String torrentFilePath) throws SQLException{
+		executeUpdate(SQL_UPDATE_TORRENTFILEPATH, torrentFilePath, signature);
+		cacheIndex.setTorrentFilePath(signature, torrentFilePath);
+	}
+    
+    /**
+     * Records how much of a partially downloaded file has safely reached the disk.
+     * @param signature
+     * @param bytesCommitted
+     * @throws SQLException
+     */
+    public void updateBytesCommitted(String signature, long bytesCommitted) throws SQLException{
+		executeUpdate(SQL_UPDATE_BYTESCOMMITTED, bytesCommitted, signature);
+	}
+    
+    /**
+     * Records the start of an http transfer: the validators the origin sent for the file,
+     * so that a later resume can ask for the rest of the same version of it, and the
+     * length of the prefix that is already on disk.
+     * @param signature
+     * @param etag
+     * @param lastModified
+     * @param bytesCommitted
+     * @throws SQLException
+     */
+    public void beginTransfer(String signature, String etag, String lastModified, long bytesCommitted) throws SQLException{
+		executeUpdate(SQL_BEGIN_TRANSFER, etag, lastModified, bytesCommitted, signature);
+	}
+    
+    /**
+     * Marks a download as complete, recording where the file is, in a single transaction.
+     * @param signature
+     * @param path location of the downloaded file
+     * @param torrentFilePath torrent file of a bittorrent download; null to leave it unchanged
+     * @return false if the entry was not downloading (e.g. it was removed meanwhile)
+     * @throws SQLException
+     */
+    public boolean completeDownload(String signature, String path, String torrentFilePath) throws SQLException{
+		if (executeUpdate(SQL_COMPLETE, path, torrentFilePath, STATUS_COMPLETE, signature, STATUS_DOWNLOADING) == 0)
+			return false;
+		cacheIndex.complete(signature, path, torrentFilePath);
+		return true;
 	}
     
-    public synchronized void updateFilePath(String signature, String path) throws SQLException{
-		String query = "UPDATE " + filestable + " SET FILEPATH = " + dbString(path) + " WHERE SIGNATURE = " + dbString(signature);
-		executeUpdate(query);
+    /**
+     * Records how long it took to download a file, which is what evicting it would cost again.
+     * @param signature
+     * @param fetchTime in milliseconds
+     * @throws SQLException
+     */
+    public void updateFetchTime(String signature, long fetchTime) throws SQLException{
+		executeUpdate(SQL_UPDATE_FETCHTIME, fetchTime, signature);
+		cacheIndex.setCost(signature, fetchTime, -1);
 	}
     
-    public synchronized void updateDownloadStatus(String signature, int status) throws SQLException{
-		String query = "UPDATE " + filestable + " SET STATUS = " + status + " WHERE SIGNATURE = " + dbString(signature);
-		executeUpdate(query);
+    /**
+     * Records how long it took to register the image made from a file.
+     * @param signature
+     * @param registerTime in milliseconds
+     * @throws SQLException
+     */
+    public void updateRegisterTime(String signature, long registerTime) throws SQLException{
+		executeUpdate(SQL_UPDATE_REGISTERTIME, registerTime, signature);
+		cacheIndex.setCost(signature, -1, registerTime);
 	}
     
-    public synchronized void updateTorrentFilePath(String signature, String torrentFilePath) throws SQLException{
-		String query = "UPDATE " + filestable + " SET TORRENTFILEPATH = " + dbString(torrentFilePath) + " WHERE SIGNATURE = " + dbString(signature);
-		executeUpdate(query);
+    /**
+     * Parks an interrupted download so that the next request for it resumes it.
+     * The file path is kept so that the partial file can still be evicted.
+     * @param signature
+     * @param path location of the partial file
+     * @throws SQLException
+     */
+    public void markResumable(String signature, String path) throws SQLException{
+		executeUpdate(SQL_MARK_RESUMABLE, STATUS_PARTIAL, path, signature);
+		cacheIndex.park(signature, path);
 	}
     
     /**
 	 * Delete entry for the given signature
 	 * @param signature
+	 * @return number of entries deleted
 	 * @throws SQLException
 	 */
-	public synchronized void deleteEntry(String signature) throws SQLException{
-		String query = "DELETE FROM " + filestable + " WHERE SIGNATURE = " + dbString(signature);
-		executeUpdate(query);
+	public int deleteEntry(String signature) throws SQLException{
+		int rv = executeUpdate(SQL_DELETE, signature);
+		cacheIndex.remove(signature);
+		return rv;
 	}
 	
 	/**
      * Calculate the size of existing data
-     * @param size
      * @return
      * @throws SQLException
      */
-    public synchronized long getExistingDataSize() throws SQLException
+    public long getExistingDataSize() throws SQLException
     {
-    	long result = 0;
-    	
-    	String query = "SELECT SUM(FILESIZE) FROM " + filestable;
-
-    	Connection connection = getConnection();
-		try {
-			Statement statement = connection.createStatement();
-			try {
-				statement.setQueryTimeout(Globals.JDBC_OPERATION_TIMEOUT);
-				ResultSet rs = statement.executeQuery(query);
-				try {
-					while(rs.next())
-					{
-						result += rs.getLong(1);
-					}
-				}
-				finally { rs.close(); }
-			}
-			finally { statement.close(); }
-		}
-		finally { connection.close(); }
-	
-		return result;
+		return cacheIndex.getTotalSize();
     }
     
     /**
@@ -174,52 +348,35 @@ public class SqliteDLDatabase extends SqliteBase{
      * @return
      * @throws SQLException
      */
-	public synchronized boolean isExisting(String fileSignature) throws SQLException
+	public boolean isExisting(String fileSignature) throws SQLException
     {
-    	String query="SELECT * FROM " + filestable + " WHERE SIGNATURE = " + dbString(fileSignature);
-    	Connection connection = getConnection();
-		try {
-			Statement statement = connection.createStatement();
-			try {
-				statement.setQueryTimeout(Globals.JDBC_OPERATION_TIMEOUT);
-				ResultSet rs = statement.executeQuery(query);
-				try {
-					if(!rs.next()) return false;
-					return true;
-				}
-				finally { rs.close(); }
-			}
-			finally { statement.close(); }
-		}
-		finally { connection.close(); }
+		return cacheIndex.contains(fileSignature);
     }
    
 	/**
-	 * This function is called in case space needs to be freed up.
-	 * @return the entry corresponding to the file that should be deleted.
+	 * Fetches the entry for the given signature. Reference fields come from memory,
+	 * since the table may not have caught up with them yet.
+	 * @param signature
+	 * @return the entry, or null if there is none
 	 * @throws SQLException
 	 */
-	public synchronized Entry getMostStaleEntry() throws SQLException{
-		String query = "SELECT * FROM " + moststaleview;
-
+	public Entry getEntry(String signature) throws SQLException{
 		Connection connection = getConnection();
 		try {
-			Statement statement = connection.createStatement();
+			PreparedStatement statement = prepare(connection, SQL_SELECT, signature);
 			try {
-				statement.setQueryTimeout(Globals.JDBC_OPERATION_TIMEOUT);
-				ResultSet rs = statement.executeQuery(query);
+				ResultSet rs = statement.executeQuery();
 				try {
-					if (rs.next())
-					{
-						Entry e = new Entry();
-						e.setFilePath(rs.getString("FILEPATH"));
-						e.setFilesize(rs.getLong("FILESIZE"));
-						e.setSignature(rs.getString("SIGNATURE"));
-						e.setDownloadType(rs.getString("DOWNLOADTYPE"));
-						e.setTorrentFilePath(rs.getString("TORRENTFILEPATH"));
-						return e;
+					if (!rs.next())
+						return null;
+					Entry e = readEntry(rs);
+					Entry indexed = cacheIndex.get(signature);
+					if (indexed != null) {
+						e.setActiveRef(indexed.getActiveRef());
+						e.setHits(indexed.getHits());
+						e.setLastRef(indexed.getLastRef());
 					}
-					return null;
+					return e;
 				}
 				finally { rs.close(); }
 			}
@@ -228,32 +385,42 @@ public class SqliteDLDatabase extends SqliteBase{
 		finally { connection.close(); }
 	}
 	
+	/**
+	 * This function is called in case space needs to be freed up.
+	 * The file nobody is using that the configured cache policy values least
+	 * is picked from memory, so the cost does not grow with the number of cached files.
+	 * @return the entry corresponding to the file that should be deleted.
+	 * @throws SQLException
+	 */
+	public Entry getMostStaleEntry() throws SQLException{
+		return cacheIndex.getMostStale();
+	}
+	
+	/**
+	 * @return the eviction policy and the hit ratio it has achieved since startup
+	 */
+	public String getCacheStatistics() {
+		return cacheIndex.toString();
+	}
+	
 	/**
 	 * Fetches the list of files in downloading status
 	 * @return
 	 * @throws Exception
 	 */
-	public synchronized List<Entry> getDownloadingFiles() throws Exception{
+	public List<Entry> getDownloadingFiles() throws Exception{
 		
 		List<Entry> result = new ArrayList<Entry>();
 		
-		String query="SELECT * FROM " + filestable + " WHERE STATUS = 0";
-
 		Connection connection = getConnection();
 		try {
-			Statement statement = connection.createStatement();
+			PreparedStatement statement = prepare(connection, SQL_SELECT_BY_STATUS, STATUS_DOWNLOADING);
 			try {
-				statement.setQueryTimeout(Globals.JDBC_OPERATION_TIMEOUT);
-				ResultSet rs = statement.executeQuery(query);
+				ResultSet rs = statement.executeQuery();
 				try {
 					while(rs.next())
 					{
-						Entry e = new Entry();
-						e.setFilePath(rs.getString("FILEPATH"));
-						e.setFilesize(rs.getLong("FILESIZE"));
-						e.setSignature(rs.getString("SIGNATURE"));
-						e.setDownloadType(rs.getString("DOWNLOADTYPE"));
-						e.setTorrentFilePath(rs.getString("TORRENTFILEPATH"));
+						Entry e = readEntry(rs);
 						result.add(e);
 					}
 				}
@@ -267,34 +434,160 @@ public class SqliteDLDatabase extends SqliteBase{
 	}
 	
 	/**
-	 * Reduces the active reference count by one, for the entry with the given signature
+	 * Reduces the active reference count by one, for the entry with the given signature.
+	 * The entry counts as referenced at this point, for the purposes of eviction order.
+	 * The change is written to the database behind the caller.
 	 * @param signature
 	 * @throws SQLException
 	 */
-	public synchronized void removeReference(String signature) throws SQLException
+	public void removeReference(String signature) throws SQLException
 	{
-		String query = "SELECT * FROM " + filestable + " WHERE SIGNATURE = " + dbString(signature);
+		Lock lock = entryLocks.get(signature);
+		lock.lock();
+		try {
+			Entry e = cacheIndex.get(signature);
+			if (e == null || e.getActiveRef() <= 0)
+				return;
+			
+			cacheIndex.release(signature, System.currentTimeMillis());
+			referenceWriter.touch(signature);
+		}
+		finally { lock.unlock(); }
+	}
+	
+	/**
+	 * The lock serializing the transitions of an entry. Holding it while an entry is
+	 * evicted keeps requests from taking a reference to it meanwhile.
+	 * @param signature
+	 * @return the lock, not yet held
+	 */
+	public Lock getEntryLock(String signature) {
+		return entryLocks.get(signature);
+	}
+	
+	/**
+	 * @param signature
+	 * @return true if the entry exists, is finished or partial, and nobody references it
+	 */
+	public boolean isEvictable(String signature) {
+		return cacheIndex.isEvictable(signature);
+	}
+	
+	/**
+	 * Writes the reference count, hits and reference time the index holds for each of the
+	 * given files, in a single transaction.
+	 * @param signatures
+	 * @throws SQLException
+	 */
+	void writeReferences(List<String> signatures) throws SQLException{
+		List<Object[]> rows = new ArrayList<Object[]>(signatures.size());
+		for (String signature : signatures) {
+			Entry e = cacheIndex.get(signature);
+			if (e != null)
+				rows.add(new Object[] { e.getActiveRef(), e.getHits(), e.getLastRef(), signature });
+		}
+		if (!rows.isEmpty())
+			executeBatch(SQL_WRITE_REFERENCES, rows);
+	}
+	
+	/**
+	 * Rebuilds the in-memory index from the FILE table, oldest reference first.
+	 * @throws SQLException
+	 */
+	private void loadIndex() throws SQLException{
+		cacheIndex.clear();
+		Connection connection = getConnection();
+		try {
+			PreparedStatement statement = prepare(connection, SQL_SELECT_ALL);
+			try {
+				ResultSet rs = statement.executeQuery();
+				try {
+					while (rs.next())
+						cacheIndex.put(readEntry(rs));
+				}
+				finally { rs.close(); }
+			}
+			finally { statement.close(); }
+		}
+		finally { connection.close(); }
+		
+		logger.info("Loaded " + cacheIndex.size() + " entries (" + cacheIndex.getTotalSize() +
+			" bytes) from table " + filestable);
+	}
+	
+	/**
+	 * Builds an entry from the current row of a FILE table result set
+	 * @param rs
+	 * @return entry
+	 * @throws SQLException
+	 */
+	private static Entry readEntry(ResultSet rs) throws SQLException{
+		Entry e = new Entry();
+		e.setFilePath(rs.getString("FILEPATH"));
+		e.setFilesize(rs.getLong("FILESIZE"));
+		e.setSignature(rs.getString("SIGNATURE"));
+		e.setDownloadType(rs.getString("DOWNLOADTYPE"));
+		e.setTorrentFilePath(rs.getString("TORRENTFILEPATH"));
+		e.setBytesCommitted(rs.getLong("BYTESCOMMITTED"));
+		e.setEtag(rs.getString("ETAG"));
+		e.setLastModified(rs.getString("LASTMODIFIED"));
+		e.setStatus(rs.getInt("STATUS"));
+		e.setActiveRef(rs.getInt("ACTIVEREF"));
+		e.setLastRef(rs.getLong("LASTREF"));
+		e.setHits(rs.getLong("HITS"));
+		e.setFetchTime(rs.getLong("FETCHTIME"));
+		e.setRegisterTime(rs.getLong("REGISTERTIME"));
+		return e;
+	}
+	
+	@Override
+	protected void checkDB() throws SQLException, IOException
+	{
+		super.checkDB();
+		upgradeDB();
+	}
+	
+	/**
+	 * Brings a FILE table created by an older version up to the current layout,
+	 * and recreates the view so that it matches the current eviction rules.
+	 * @throws SQLException
+	 */
+	private void upgradeDB() throws SQLException{
 		Connection connection = getConnection();
 		try {
 			Statement statement = connection.createStatement();
-			int newActiveRef = -1;
 			try {
 				statement.setQueryTimeout(Globals.JDBC_OPERATION_TIMEOUT);
-				ResultSet rs = statement.executeQuery(query);
+				List<String> columns = new ArrayList<String>();
+				ResultSet rs = statement.executeQuery("PRAGMA table_info(" + filestable + ")");
 				try {
-					if(rs.next()) newActiveRef = rs.getInt("ACTIVEREF") - 1;
+					while (rs.next())
+						columns.add(rs.getString("name").toUpperCase());
 				}
 				finally { rs.close(); }
-				if (newActiveRef > -1) {
-					query = "UPDATE " + filestable + " SET ACTIVEREF = " + newActiveRef + " WHERE SIGNATURE = " + dbString(signature);
-					statement.executeUpdate(query);
-				}	
+				
+				for (int i = 0; i < addedColumns.length; i++) {
+					if (!columns.contains(addedColumns[i][0])) {
+						logger.info("Adding column " + addedColumns[i][0] + " to table " + filestable);
+						statement.executeUpdate("ALTER TABLE " + filestable + " ADD COLUMN " +
+								addedColumns[i][0] + " " + addedColumns[i][1]);
+					}
+				}
+				
+				statement.executeUpdate("DROP VIEW IF EXISTS " + moststaleview);
+				statement.executeUpdate(createMostStaleView());
 			}
 			finally { statement.close(); }
 		}
 		finally { connection.close(); }
 	}
 	
+	private static String createMostStaleView() {
+		return "CREATE VIEW " + moststaleview + " AS SELECT * FROM " + filestable +
+			" WHERE (STATUS = " + STATUS_COMPLETE + " OR STATUS = " + STATUS_PARTIAL + ")" +
+			" AND ACTIVEREF = 0 ORDER BY LASTREF";
+	}
+	
 	@Override
     public void resetDB() throws SQLException, IOException{
 		Connection connection = getConnection();
@@ -306,8 +599,8 @@ public class SqliteDLDatabase extends SqliteBase{
 				statement.executeUpdate("DROP TABLE IF EXISTS " + filestable);
 				statement.executeUpdate("DROP VIEW IF EXISTS " + moststaleview);
 				statement.executeUpdate("CREATE TABLE " + filestable +" " +
-						"(SIGNATURE STRING, FILEPATH STRING, FILESIZE UNSIGNED BIG INT, ACTIVEREF UNSIGNED INT, SEEDING SMALLINT, STATUS SMALLINT, LASTREF BIG INT, DOWNLOADTYPE STRING, URL STRING, TORRENTFILEPATH STRING, PRIMARY KEY(SIGNATURE))");      
-				statement.executeUpdate("CREATE VIEW " + moststaleview + " AS SELECT * FROM " + filestable + " WHERE STATUS = 1 AND ACTIVEREF = 0 ORDER BY LASTREF");
+						"(SIGNATURE STRING, FILEPATH STRING, FILESIZE UNSIGNED BIG INT, ACTIVEREF UNSIGNED INT, SEEDING SMALLINT, STATUS SMALLINT, LASTREF BIG INT, DOWNLOADTYPE STRING, URL STRING, TORRENTFILEPATH STRING, BYTESCOMMITTED UNSIGNED BIG INT, ETAG STRING, LASTMODIFIED STRING, HITS UNSIGNED BIG INT, FETCHTIME BIG INT, REGISTERTIME BIG INT, PRIMARY KEY(SIGNATURE))");      
+				statement.executeUpdate(createMostStaleView());
 	            
 				createSuperblock();
 			}
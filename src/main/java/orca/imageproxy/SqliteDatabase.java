@@ -4,15 +4,39 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.locks.Lock;
 
 public class SqliteDatabase extends SqliteBase{
 
+	public final static String deregistertable = "DEREGISTER";
+
+	// statements used by the registry, prepared once per connection
+	private final static String SQL_SELECT_IMAGE = "SELECT * FROM IMAGE WHERE SIGNATURE = ?";
+	private final static String SQL_INSERT_IMAGE = "INSERT INTO IMAGE VALUES ( ? , ? )";
+	private final static String SQL_UPDATE_IMAGE = "UPDATE IMAGE SET IMAGE_ID = ? WHERE SIGNATURE = ?";
+	private final static String SQL_DELETE_IMAGE = "DELETE FROM IMAGE WHERE SIGNATURE = ?";
+	private final static String SQL_DELETE_IMAGE_BY_ID = "DELETE FROM IMAGE WHERE IMAGE_ID = ?";
+	private final static String SQL_QUEUE_DEREGISTRATION = "INSERT INTO " + deregistertable + " VALUES ( ? , ? , ? , 0 )";
+	private final static String SQL_SELECT_QUEUED_DEREGISTRATIONS = "SELECT IMAGE_ID FROM " + deregistertable +
+		" ORDER BY QUEUED LIMIT ?";
+	private final static String SQL_DELETE_QUEUED_DEREGISTRATION = "DELETE FROM " + deregistertable + " WHERE IMAGE_ID = ?";
+	private final static String SQL_FAIL_QUEUED_DEREGISTRATION = "UPDATE " + deregistertable +
+		" SET ATTEMPTS = ATTEMPTS + 1, QUEUED = ? WHERE IMAGE_ID = ?";
+	private final static String SQL_DROP_QUEUED_DEREGISTRATION = "DELETE FROM " + deregistertable +
+		" WHERE IMAGE_ID = ? AND ATTEMPTS >= ?";
+
 	private static SqliteDatabase imageProxyDB;
 
+	// serializes marking a signature, which reads before it writes
+	private final StripedLock signatureLocks = new StripedLock(64);
+
 	public synchronized static SqliteDatabase getInstance() throws ClassNotFoundException, SQLException, IOException {
 		if (imageProxyDB == null)
 			imageProxyDB = new SqliteDatabase();
@@ -51,30 +75,46 @@ public class SqliteDatabase extends SqliteBase{
         logger.debug("Superblock created successfully");
     }
 
-    private synchronized void cleanupInProgressImages() throws SQLException {
+    private void cleanupInProgressImages() throws SQLException {
         logger.debug("Removing image IDs left in \"IN PROGRESS\" state at shutdown.");
-    	String query = "DELETE FROM IMAGE WHERE IMAGE_ID = " + dbString(Globals.IMAGE_INPROGRESS);
-    	executeUpdate(query);
+    	executeUpdate(SQL_DELETE_IMAGE_BY_ID, Globals.IMAGE_INPROGRESS);
     }
     
-    public synchronized String checkImageSignature(String signature, String type, boolean mark) throws SQLException{
-    	String query = "SELECT * FROM IMAGE WHERE SIGNATURE = " + dbString(signature);
+    /**
+     * Looks up the image registered for a signature. Lookups run concurrently; marking
+     * is serialized per signature, so only one caller gets to register a new image.
+     * @param signature
+     * @param type
+     * @param mark if true, records that an image is being registered if there is none
+     * @return the image id, INPROGRESS while one is being registered, or null if there is none
+     * @throws SQLException
+     */
+    public String checkImageSignature(String signature, String type, boolean mark) throws SQLException{
+	if (!mark)
+		return selectImage(signature);
+
+	Lock lock = signatureLocks.get(signature);
+	lock.lock();
+	try {
+		String imgID = selectImage(signature);
+		if (imgID == null)
+			executeUpdate(SQL_INSERT_IMAGE, signature, Globals.IMAGE_INPROGRESS);
+		return imgID;
+	}
+	finally { lock.unlock(); }
+    }
 
+    private String selectImage(String signature) throws SQLException{
     	Connection connection = getConnection();
 	String imgID = null;
 	try {
-		Statement statement = connection.createStatement();
+		PreparedStatement statement = prepare(connection, SQL_SELECT_IMAGE, signature);
 		try {
-			statement.setQueryTimeout(Globals.JDBC_OPERATION_TIMEOUT);
-			ResultSet rs = statement.executeQuery(query);
+			ResultSet rs = statement.executeQuery();
 			try {
 				if(rs.next()) imgID = rs.getString("IMAGE_ID");
 			}
 			finally { rs.close(); }
-			if (mark && (imgID == null)) {
-				query = "INSERT INTO IMAGE VALUES ( " + dbString(signature) + " , " + dbString(Globals.IMAGE_INPROGRESS) + " )";
-				statement.executeUpdate(query);
-			}
 		}
 		finally { statement.close(); }
 	}
@@ -83,14 +123,137 @@ public class SqliteDatabase extends SqliteBase{
 	return imgID;
     }
     
-    public synchronized int updateImageInfo(String signature, String imageId, String type) throws SQLException{
-    	String query = "UPDATE IMAGE SET IMAGE_ID = " + dbString(imageId) + " WHERE SIGNATURE = " + dbString(signature);
-    	return executeUpdate(query);
+    public int updateImageInfo(String signature, String imageId, String type) throws SQLException{
+    	return executeUpdate(SQL_UPDATE_IMAGE, imageId, signature);
     }
     
-    public synchronized int removeImageInfo(String signature, String type) throws SQLException{
-    	String query = "DELETE FROM IMAGE WHERE SIGNATURE = " + dbString(signature);
-    	return executeUpdate(query);
+    public int removeImageInfo(String signature, String type) throws SQLException{
+    	int rv = executeUpdate(SQL_DELETE_IMAGE, signature);
+    	ImageIdCache.getInstance().invalidate(signature);
+    	return rv;
+    }
+
+    /**
+     * Moves the image registered for a signature into the deregistration queue, in one transaction,
+     * so the image is forgotten by the registry and remembered for deletion across restarts.
+     * @param signature
+     * @return the queued image id, or null if no finished image is registered for the signature
+     * @throws SQLException
+     */
+    public String queueDeregistration(String signature) throws SQLException{
+	// the image must not change between reading and moving it
+	writeLock.lock();
+	try {
+		return moveToDeregistrationQueue(signature);
+	}
+	finally {
+		writeLock.unlock();
+		ImageIdCache.getInstance().invalidate(signature);
+	}
+    }
+
+    private String moveToDeregistrationQueue(String signature) throws SQLException{
+	String imgID = null;
+	Connection connection = getConnection();
+	try {
+		connection.setAutoCommit(false);
+		try {
+			PreparedStatement statement = prepare(connection, SQL_SELECT_IMAGE, signature);
+			try {
+				ResultSet rs = statement.executeQuery();
+				try {
+					if(rs.next()) imgID = rs.getString("IMAGE_ID");
+				}
+				finally { rs.close(); }
+			}
+			finally { statement.close(); }
+			// an image still being registered is not ours to delete yet
+			if (imgID == null || Globals.IMAGE_INPROGRESS.equals(imgID))
+				return null;
+			statement = prepare(connection, SQL_QUEUE_DEREGISTRATION, signature, imgID, System.currentTimeMillis());
+			try {
+				statement.executeUpdate();
+			}
+			finally { statement.close(); }
+			statement = prepare(connection, SQL_DELETE_IMAGE, signature);
+			try {
+				statement.executeUpdate();
+			}
+			finally { statement.close(); }
+			connection.commit();
+		}
+		catch (SQLException e) {
+			connection.rollback();
+			throw e;
+		}
+	}
+	finally {
+		connection.setAutoCommit(true);
+		connection.close();
+	}
+
+	return imgID;
+    }
+
+    /**
+     * Fetches the oldest queued deregistrations.
+     * @param limit maximum number of image ids to return
+     * @return image ids, oldest first
+     * @throws SQLException
+     */
+    public List<String> getQueuedDeregistrations(int limit) throws SQLException{
+	List<String> imgIDs = new ArrayList<String>();
+	Connection connection = getConnection();
+	try {
+		PreparedStatement statement = prepare(connection, SQL_SELECT_QUEUED_DEREGISTRATIONS, limit);
+		try {
+			ResultSet rs = statement.executeQuery();
+			try {
+				while(rs.next()) imgIDs.add(rs.getString("IMAGE_ID"));
+			}
+			finally { rs.close(); }
+		}
+		finally { statement.close(); }
+	}
+	finally { connection.close(); }
+
+	return imgIDs;
+    }
+
+    /**
+     * Removes an image from the deregistration queue.
+     * @param imageId
+     * @return number of entries removed
+     * @throws SQLException
+     */
+    public int removeQueuedDeregistration(String imageId) throws SQLException{
+    	return executeUpdate(SQL_DELETE_QUEUED_DEREGISTRATION, imageId);
+    }
+
+    /**
+     * Records a failed attempt to deregister an image, and moves it to the back of the queue.
+     * The image is dropped from the queue once it has failed too often.
+     * @param imageId
+     * @param maxAttempts
+     * @return true if the image is still queued
+     * @throws SQLException
+     */
+    public boolean failQueuedDeregistration(String imageId, int maxAttempts) throws SQLException{
+    	executeUpdate(SQL_FAIL_QUEUED_DEREGISTRATION, System.currentTimeMillis(), imageId);
+    	return executeUpdate(SQL_DROP_QUEUED_DEREGISTRATION, imageId, maxAttempts) == 0;
+    }
+
+    @Override
+    protected void checkDB() throws SQLException, IOException
+    {
+	super.checkDB();
+	// databases created before the queue existed
+	executeUpdate(createDeregisterTable("IF NOT EXISTS "));
+    }
+
+    private static String createDeregisterTable(String condition) {
+	return "CREATE TABLE " + condition + deregistertable +
+		" (SIGNATURE STRING, IMAGE_ID STRING, QUEUED BIG INT, ATTEMPTS INT)";
     }
     
     @Override
@@ -102,6 +265,8 @@ public class SqliteDatabase extends SqliteBase{
 			statement.setQueryTimeout(Globals.JDBC_OPERATION_TIMEOUT);
 			statement.executeUpdate("DROP TABLE IF EXISTS IMAGE");
 			statement.executeUpdate("CREATE TABLE IMAGE (SIGNATURE STRING, IMAGE_ID STRING)");
+			statement.executeUpdate("DROP TABLE IF EXISTS " + deregistertable);
+			statement.executeUpdate(createDeregisterTable(""));
 
 			createSuperblock();
 		}
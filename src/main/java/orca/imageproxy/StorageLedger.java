@@ -0,0 +1,99 @@
+package orca.imageproxy;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory account of the download cache's disk space.
+ * Every byte accounted to a file in the FILE table is allocated here, whether the
+ * file is complete, still downloading or a partial download waiting to be resumed.
+ * Space is reserved with a compare-and-set, so downloads that fit never wait for each other;
+ * only a reservation that does not fit has to go and make room.
+ */
+public class StorageLedger {
+
+	private final long capacity;
+
+	// bytes held by all files in the cache, including reservations for running downloads
+	private final AtomicLong allocated;
+
+	// bytes reserved by downloads that are still running
+	private final AtomicLong inFlight = new AtomicLong();
+
+	/**
+	 * @param capacity total space available to the cache
+	 * @param allocated space already taken by the files in the cache
+	 */
+	public StorageLedger(long capacity, long allocated) {
+		this.capacity = capacity;
+		this.allocated = new AtomicLong(allocated);
+	}
+
+	/**
+	 * Reserves space for a download, if it fits.
+	 * @param size full size of the file
+	 * @param alreadyHeld space the file already holds, e.g. as a partial download
+	 * @return true if the space was reserved, false if the cache is too full
+	 */
+	public boolean tryReserve(long size, long alreadyHeld) {
+		long needed = size - alreadyHeld;
+		while (true) {
+			long current = allocated.get();
+			if (needed > 0 && current + needed > capacity)
+				return false;
+			if (allocated.compareAndSet(current, current + needed)) {
+				inFlight.addAndGet(size);
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Gives back a reservation that was never used.
+	 * @param size full size of the file
+	 * @param alreadyHeld space the file held before the reservation
+	 */
+	public void cancel(long size, long alreadyHeld) {
+		allocated.addAndGet(alreadyHeld - size);
+		inFlight.addAndGet(-size);
+	}
+
+	/**
+	 * Marks a reserved download as finished; its space stays allocated.
+	 * @param size size the download reserved
+	 */
+	public void complete(long size) {
+		inFlight.addAndGet(-size);
+	}
+
+	/**
+	 * Returns the space of a file that has been removed from the cache.
+	 * @param size
+	 * @param reserved whether the file's download still held its reservation
+	 */
+	public void release(long size, boolean reserved) {
+		allocated.addAndGet(-size);
+		if (reserved)
+			inFlight.addAndGet(-size);
+	}
+
+	public long getCapacity() {
+		return capacity;
+	}
+
+	public long getAllocated() {
+		return allocated.get();
+	}
+
+	public long getInFlight() {
+		return inFlight.get();
+	}
+
+	public long getFree() {
+		return capacity - allocated.get();
+	}
+
+	public String toString() {
+		return "allocated " + getAllocated() + " of " + capacity + " bytes (" +
+			getInFlight() + " bytes reserved by running downloads)";
+	}
+}
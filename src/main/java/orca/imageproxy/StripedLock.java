@@ -0,0 +1,36 @@
+package orca.imageproxy;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of locks shared out by key, so that work on different keys rarely waits
+ * on each other while work on the same key is serialized, without keeping a lock per key.
+ */
+public class StripedLock {
+
+	private final Lock[] stripes;
+
+	/**
+	 * @param stripes number of locks; rounded up to a power of two
+	 */
+	public StripedLock(int stripes) {
+		int size = 1;
+		while (size < stripes)
+			size <<= 1;
+		this.stripes = new Lock[size];
+		for (int i = 0; i < size; i++)
+			this.stripes[i] = new ReentrantLock();
+	}
+
+	/**
+	 * @param key
+	 * @return the lock guarding the key
+	 */
+	public Lock get(String key) {
+		int h = key.hashCode();
+		// spread the high bits, since signatures may share long prefixes
+		h ^= (h >>> 16);
+		return stripes[h & (stripes.length - 1)];
+	}
+}
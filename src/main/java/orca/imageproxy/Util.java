@@ -8,14 +8,20 @@ import java.security.NoSuchAlgorithmException;
 
 public class Util {
 	
+	// digest used for image and metadata signatures
+	public static final String HASH_METHOD = "SHA-1";
+	
+	// read size used when hashing a file that is already on disk
+	private static final int HASH_BUFFER_SIZE = 1024 * 1024;
+	
 	public static String getFileHash(String filename) throws NoSuchAlgorithmException, IOException {
-        byte[] b = createFileHash(filename, "SHA-1");
+        byte[] b = createFileHash(filename, HASH_METHOD);
         return asHex(b);
     }
 	
 	public static byte[] createFileHash(String filename, String method) throws NoSuchAlgorithmException, IOException {
         InputStream fis =  new FileInputStream(filename);
-        byte[] buffer = new byte[1024];
+        byte[] buffer = new byte[HASH_BUFFER_SIZE];
         MessageDigest complete = MessageDigest.getInstance(method);
         int numRead = 0;
         while (numRead != -1) {
@@ -28,6 +34,31 @@ public class Util {
         return complete.digest();
     }
     
+    /**
+     * Feeds the first length bytes of a file into a digest
+     * @param digest
+     * @param filename
+     * @param length
+     * @throws IOException
+     */
+    public static void updateDigest(MessageDigest digest, String filename, long length) throws IOException {
+        InputStream fis = new FileInputStream(filename);
+        try {
+            byte[] buffer = new byte[HASH_BUFFER_SIZE];
+            long remaining = length;
+            while (remaining > 0) {
+                int numRead = fis.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (numRead < 0)
+                    throw new IOException("File " + filename + " is shorter than " + length + " bytes");
+                digest.update(buffer, 0, numRead);
+                remaining -= numRead;
+            }
+        }
+        finally {
+            fis.close();
+        }
+    }
+    
     public static String asHex(byte[] b) {
         String result = "";
         for (int i=0; i < b.length; i++) {
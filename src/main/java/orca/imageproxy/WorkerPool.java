@@ -0,0 +1,118 @@
+package orca.imageproxy;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A fixed number of named worker threads for one kind of work, with a queue for the work
+ * that has to wait for a thread. Keeps track of how deep the queue gets and how long
+ * work waits in it.
+ */
+public class WorkerPool extends ThreadPoolExecutor {
+
+	private final String name;
+
+	private final AtomicInteger maxQueued = new AtomicInteger();
+	private final AtomicLong started = new AtomicLong();
+	private final AtomicLong totalWait = new AtomicLong();
+
+	/**
+	 * @param name name of the pool; its threads are called name-1, name-2 and so on
+	 * @param threads maximum number of threads
+	 */
+	public WorkerPool(final String name, int threads) {
+		super(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+			new ThreadFactory() {
+				private final AtomicInteger count = new AtomicInteger();
+
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, name + "-" + count.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public void execute(final Runnable command) {
+		final long queued = System.currentTimeMillis();
+		super.execute(new Runnable() {
+			public void run() {
+				started.incrementAndGet();
+				totalWait.addAndGet(System.currentTimeMillis() - queued);
+				command.run();
+			}
+		});
+
+		int depth = getQueue().size();
+		int max = maxQueued.get();
+		while (depth > max && !maxQueued.compareAndSet(max, depth))
+			max = maxQueued.get();
+	}
+
+	/**
+	 * Runs the work on one of the pool's threads and waits for it.
+	 * @param work
+	 * @return the result of the work
+	 * @throws Exception the exception the work threw
+	 */
+	public <T> T call(Callable<T> work) throws Exception {
+		Future<T> future = submit(work);
+		try {
+			return future.get();
+		}
+		catch (InterruptedException e) {
+			future.cancel(true);
+			throw e;
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception)
+				throw (Exception) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw e;
+		}
+	}
+
+	/**
+	 * @return number of tasks waiting for a thread
+	 */
+	public int getQueueDepth() {
+		return getQueue().size();
+	}
+
+	/**
+	 * @return the deepest the queue has been
+	 */
+	public int getMaxQueueDepth() {
+		return maxQueued.get();
+	}
+
+	/**
+	 * @return average time tasks waited for a thread, in milliseconds
+	 */
+	public long getAverageWait() {
+		long count = started.get();
+		return (count == 0) ? 0 : totalWait.get() / count;
+	}
+
+	@Override
+	public String toString() {
+		return name + ": " + getActiveCount() + " of " + getMaximumPoolSize() + " threads busy, " +
+			getQueueDepth() + " queued (at most " + getMaxQueueDepth() + "), " +
+			getCompletedTaskCount() + " done, average wait " + getAverageWait() + " ms";
+	}
+}
@@ -0,0 +1,114 @@
+package orca.imageproxy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Logger;
+
+/**
+ * The worker threads of the image proxy, one bounded pool per kind of work, so a burst of
+ * requests queues up instead of starting a thread per image:
+ * - request: registrations submitted with a ticket, running in the background
+ * - register: downloading and registering the images of a RegisterImage request
+ * - registerSmall: the same for kernels and ramdisks, so that they do not queue behind
+ *   the filesystems
+ * - download: the additional connections of segmented http downloads
+ * - hash: hashing whole files that are already on disk
+ * Work in a pool may wait for the pools listed after it, never the other way round.
+ * The pools are shut down when the JVM exits, letting running work finish for a while.
+ */
+public class WorkerPools {
+
+	private static final String requestThreadsProperty = "imageproxy.workers.request";
+	private static final String registerThreadsProperty = "imageproxy.workers.register";
+	private static final String registerSmallThreadsProperty = "imageproxy.workers.registerSmall";
+	private static final String downloadThreadsProperty = "imageproxy.workers.download";
+	private static final String hashThreadsProperty = "imageproxy.workers.hash";
+
+	// how long running work may take to finish at shutdown, in seconds
+	public static final long SHUTDOWN_TIMEOUT = 30;
+
+	private static WorkerPools workerPools;
+
+	private Logger l;
+
+	private final WorkerPool request;
+	private final WorkerPool register;
+	private final WorkerPool registerSmall;
+	private final WorkerPool download;
+	private final WorkerPool hash;
+
+	public synchronized static WorkerPools getInstance() {
+		if (workerPools == null) {
+			workerPools = new WorkerPools();
+			Runtime.getRuntime().addShutdownHook(new Thread("worker-pools-shutdown") {
+				public void run() {
+					workerPools.shutdown();
+				}
+			});
+		}
+		return workerPools;
+	}
+
+	private WorkerPools() {
+		l = Logger.getLogger(this.getClass());
+		Globals globals = Globals.getInstance();
+		request = new WorkerPool("request", (int) Math.max(1, globals.getLongProperty(requestThreadsProperty, 16)));
+		register = new WorkerPool("register", (int) Math.max(1, globals.getLongProperty(registerThreadsProperty, 8)));
+		registerSmall = new WorkerPool("register-small",
+			(int) Math.max(1, globals.getLongProperty(registerSmallThreadsProperty, 4)));
+		download = new WorkerPool("download", (int) Math.max(1, globals.getLongProperty(downloadThreadsProperty, 16)));
+		hash = new WorkerPool("hash", (int) Math.max(1, globals.getLongProperty(hashThreadsProperty, 2)));
+		l.info("Worker pools: " + request.getMaximumPoolSize() + " request, " + register.getMaximumPoolSize() + " register, " +
+			registerSmall.getMaximumPoolSize() + " small register, " +
+			download.getMaximumPoolSize() + " download, " + hash.getMaximumPoolSize() + " hash threads");
+	}
+
+	public WorkerPool getRequestPool() {
+		return request;
+	}
+
+	public WorkerPool getRegisterPool() {
+		return register;
+	}
+
+	public WorkerPool getRegisterSmallPool() {
+		return registerSmall;
+	}
+
+	public WorkerPool getDownloadPool() {
+		return download;
+	}
+
+	public WorkerPool getHashPool() {
+		return hash;
+	}
+
+	/**
+	 * Stops taking work, and waits for the work already taken to finish.
+	 * Work that does not finish in time is interrupted.
+	 */
+	public void shutdown() {
+		WorkerPool[] pools = { request, register, registerSmall, download, hash };
+		for (WorkerPool pool : pools)
+			pool.shutdown();
+
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT);
+		for (WorkerPool pool : pools) {
+			try {
+				long remaining = deadline - System.currentTimeMillis();
+				if (!pool.awaitTermination(Math.max(0, remaining), TimeUnit.MILLISECONDS)) {
+					l.warn("Interrupting unfinished work; " + pool);
+					pool.shutdownNow();
+				}
+			}
+			catch (InterruptedException e) {
+				pool.shutdownNow();
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return request + "; " + register + "; " + registerSmall + "; " + download + "; " + hash;
+	}
+}
@@ -60,6 +60,86 @@
             public void receiveErrorregisterImage(java.lang.Exception e) {
             }
                 
+           /**
+            * auto generated Axis2 call back method for submitRegisterImage method
+            * override this method for handling normal response from submitRegisterImage operation
+            */
+           public void receiveResultsubmitRegisterImage(
+                    orca.imageproxy.client.IMAGEPROXYStub.SubmitRegisterImageResponse result
+                        ) {
+           }
+
+          /**
+           * auto generated Axis2 Error handler
+           * override this method for handling error response from submitRegisterImage operation
+           */
+            public void receiveErrorsubmitRegisterImage(java.lang.Exception e) {
+            }
+                
+           /**
+            * auto generated Axis2 call back method for getRegisterImageStatus method
+            * override this method for handling normal response from getRegisterImageStatus operation
+            */
+           public void receiveResultgetRegisterImageStatus(
+                    orca.imageproxy.client.IMAGEPROXYStub.GetRegisterImageStatusResponse result
+                        ) {
+           }
+
+          /**
+           * auto generated Axis2 Error handler
+           * override this method for handling error response from getRegisterImageStatus operation
+           */
+            public void receiveErrorgetRegisterImageStatus(java.lang.Exception e) {
+            }
+                
+           /**
+            * auto generated Axis2 call back method for getRegisterImageResult method
+            * override this method for handling normal response from getRegisterImageResult operation
+            */
+           public void receiveResultgetRegisterImageResult(
+                    orca.imageproxy.client.IMAGEPROXYStub.GetRegisterImageResultResponse result
+                        ) {
+           }
+
+          /**
+           * auto generated Axis2 Error handler
+           * override this method for handling error response from getRegisterImageResult operation
+           */
+            public void receiveErrorgetRegisterImageResult(java.lang.Exception e) {
+            }
+                
+           /**
+            * auto generated Axis2 call back method for registerImages method
+            * override this method for handling normal response from registerImages operation
+            */
+           public void receiveResultregisterImages(
+                    orca.imageproxy.client.IMAGEPROXYStub.RegisterImagesResponse result
+                        ) {
+           }
+
+          /**
+           * auto generated Axis2 Error handler
+           * override this method for handling error response from registerImages operation
+           */
+            public void receiveErrorregisterImages(java.lang.Exception e) {
+            }
+                
+           /**
+            * auto generated Axis2 call back method for clearFailedDownloads method
+            * override this method for handling normal response from clearFailedDownloads operation
+            */
+           public void receiveResultclearFailedDownloads(
+                    orca.imageproxy.client.IMAGEPROXYStub.ClearFailedDownloadsResponse result
+                        ) {
+           }
+
+          /**
+           * auto generated Axis2 Error handler
+           * override this method for handling error response from clearFailedDownloads operation
+           */
+            public void receiveErrorclearFailedDownloads(java.lang.Exception e) {
+            }
+                
 
 
     }
@@ -5,14 +5,19 @@ import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 
 import java.lang.Exception;
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 public class imageproxyclient {
 	
 	public static String[] parseCommandLine(String args[])
 	{
-		String[] parameters = new String[4];
+		String[] parameters = new String[6];
 		int paralength=0;
 		for(int i=0;i< args.length;i++)
 		{
@@ -51,9 +56,30 @@ public class imageproxyclient {
 				i++;
 				paralength++;
 			}
+			else if(args[i].equals("--batch")||args[i].equals("-b"))
+			{
+				if(i+1>=args.length)
+				{
+					System.err.println("unparsable parameters, please use --help to see available options.");
+					return null;
+				}
+				if(parameters[4]!=null)
+				{
+					System.err.println("too many batch parameters, only one batch parameter is acceptable.");
+					System.err.println("try --help for more information.");
+					return null;
+				}
+				parameters[4]=args[i+1];
+				i++;
+			}
+			else if(args[i].equals("--retry")||args[i].equals("-r"))
+			{
+				parameters[5]="true";
+			}
 			else if(args[i].equals("--help")||args[i].equals("-h"))
 			{
 				System.out.println("Usage: PROGRAM [OPTION] -u <metadata file url> -g <metadata file's global unique ID> -p <proxy url>");
+				System.out.println("  or:  PROGRAM [OPTION] -b <batch file> -p <proxy url>");
 				System.out.println("Parse the metadata file; Download and register Images in that metadata file.");
 				System.out.println();
 				System.out.println("Mandatory arguments to long options are mandatory for short options too.");
@@ -62,6 +88,10 @@ public class imageproxyclient {
 				System.out.println("-t, --timeout			the maximum timeout to the connection of server, " +
 														"exceeding which the connection will be stopped.");
 				System.out.println("-p, --proxy			URL of the ImageProxy installation");
+				System.out.println("-r, --retry			download images that failed recently again right away, " +
+														"instead of failing until their backoff has passed");
+				System.out.println("-b, --batch			file listing many metadata files to register in one call, " +
+														"one \"<url> <signature>\" per line");
 				return null;
 			}
 			else if(args[i].equals("--timeout")||args[i].equals("-t"))
@@ -96,7 +126,16 @@ public class imageproxyclient {
 				paralength++;
 			}
 		}
-		if(paralength!=3)
+		if(parameters[4]!=null)
+		{
+			if(paralength!=1||parameters[3]==null)
+			{
+				System.err.println("Invalid parameters, a batch takes only the proxy url besides the batch file.");
+				System.err.println("Try --help for more information.");
+				return null;
+			}
+		}
+		else if(paralength!=3)
 		{
 			System.err.println("Invalid parameters, please check.");
 			System.err.println("Try --help for more information.");
@@ -105,6 +144,81 @@ public class imageproxyclient {
 		return parameters;
 	}
 
+	/**
+	 * Registers all the metadata files listed in a batch file with a single call
+	 * @param stub
+	 * @param batchFile lines of "<url> <signature>"; empty lines and lines starting with # are skipped
+	 * @param retry whether to clear recent download failures first
+	 * @throws Exception
+	 */
+	public static void registerBatch(IMAGEPROXYStub stub, String batchFile, boolean retry) throws Exception
+	{
+		Properties request = new Properties();
+		List<String> urls = new ArrayList<String>();
+		BufferedReader reader = new BufferedReader(new FileReader(batchFile));
+		try{
+			String line;
+			while((line=reader.readLine())!=null)
+			{
+				line=line.trim();
+				if(line.length()==0||line.startsWith("#"))
+					continue;
+				String[] fields=line.split("\\s+");
+				if(fields.length!=2)
+				{
+					System.err.println("invalid batch line, expected \"<url> <signature>\": " + line);
+					return;
+				}
+				request.setProperty(urls.size() + ".url", fields[0]);
+				request.setProperty(urls.size() + ".signature", fields[1]);
+				if(retry)
+					clearFailedDownloads(stub, fields[1]);
+				urls.add(fields[0]);
+			}
+		}finally{
+			reader.close();
+		}
+
+		ByteArrayOutputStream images = new ByteArrayOutputStream();
+		request.store(images, null);
+		IMAGEPROXYStub.RegisterImages registerimages=new IMAGEPROXYStub.RegisterImages();
+		registerimages.setImages(images.toString());
+		IMAGEPROXYStub.RegisterImagesResponse response=stub.registerImages(registerimages);
+
+		Properties imageIds = new Properties();
+		imageIds.load(new ByteArrayInputStream(response.get_return().getBytes()));
+		for(int entry=0;entry<urls.size();entry++)
+		{
+			System.out.println(urls.get(entry));
+			if(imageIds.getProperty(entry + ".ERROR") != null){
+				System.out.println("  Error: " + imageIds.getProperty(entry + ".ERROR"));
+				continue;
+			}
+			System.out.println("  EMI is " + imageIds.getProperty(entry + ".FILESYSTEM"));
+			if(imageIds.getProperty(entry + ".KERNEL") != null){
+				System.out.println("  EKI is " + imageIds.getProperty(entry + ".KERNEL"));
+			}
+			if(imageIds.getProperty(entry + ".RAMDISK") != null){
+				System.out.println("  ERI is " + imageIds.getProperty(entry + ".RAMDISK"));
+			}
+		}
+	}
+
+	/**
+	 * Lets the proxy download the images of a metadata file again, even if they failed recently
+	 * @param stub
+	 * @param signature signature of the metadata file
+	 * @throws Exception
+	 */
+	public static void clearFailedDownloads(IMAGEPROXYStub stub, String signature) throws Exception
+	{
+		IMAGEPROXYStub.ClearFailedDownloads clear=new IMAGEPROXYStub.ClearFailedDownloads();
+		clear.setSignature(signature);
+		String cleared=stub.clearFailedDownloads(clear).get_return();
+		if(cleared!=null&&cleared.length()>0)
+			System.out.println("Retrying failed downloads of " + cleared);
+	}
+
 	public static void main(String args[])
 	{
 		String FILE_SYSTEM_IMAGE_KEY = "FILESYSTEM";
@@ -139,6 +253,15 @@ public class imageproxyclient {
 				}
 			}
 
+			if(parameters[4]!=null)
+			{
+				registerBatch(stub, parameters[4], parameters[5]!=null);
+				return;
+			}
+
+			if(parameters[5]!=null)
+				clearFailedDownloads(stub, parameters[1]);
+
 			IMAGEPROXYStub.RegisterImage registerimage=new IMAGEPROXYStub.RegisterImage();
 			registerimage.setSignature(parameters[1]);
 			registerimage.setUrl(parameters[0]);
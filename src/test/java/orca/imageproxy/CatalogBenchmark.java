@@ -0,0 +1,114 @@
+package orca.imageproxy;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Measures how many download catalog operations per second SqliteDLDatabase sustains,
+ * first the way the database was originally accessed (a new connection per operation,
+ * rollback journal, full synchronous writes), then with the connection settings from
+ * imageproxy-settings.properties.
+ *
+ * Not a unit test; it is kept with the tests so that it stays out of the service jar.
+ * Run it from an empty directory, since the catalog keeps its recovery lock file in the
+ * working directory:
+ *   java -cp target/test-classes:target/classes:... orca.imageproxy.CatalogBenchmark [files per thread] [threads]
+ */
+public class CatalogBenchmark {
+
+	private static final String BENCHMARK_DB = "catalog-benchmark.db";
+
+	// catalog operations made for each file
+	private static final int OPS_PER_FILE = 7;
+
+	public static void main(String[] args) throws Exception {
+		int files = (args.length > 0) ? Integer.parseInt(args[0]) : 500;
+		int threads = (args.length > 1) ? Integer.parseInt(args[1]) : 4;
+
+		File lock = new File(Globals.DLSuperblockLocation);
+		if (lock.exists()) {
+			System.err.println("Found " + lock.getPath() + "; run the benchmark from an empty directory.");
+			System.exit(1);
+		}
+
+		Properties p = Globals.getInstance().getProperties();
+		String poolSize = p.getProperty(SqliteBase.PropertyPoolSize, "4");
+		String journalMode = p.getProperty(SqliteBase.PropertyJournalMode, "WAL");
+		String synchronous = p.getProperty(SqliteBase.PropertySynchronous, "NORMAL");
+		p.setProperty(SqliteBase.PropertyImageProxyDb, BENCHMARK_DB);
+
+		try {
+			p.setProperty(SqliteBase.PropertyPoolSize, "0");
+			p.setProperty(SqliteBase.PropertyJournalMode, "DELETE");
+			p.setProperty(SqliteBase.PropertySynchronous, "FULL");
+			run("connection per operation, DELETE journal, synchronous FULL", "before", files, threads);
+
+			p.setProperty(SqliteBase.PropertyPoolSize, poolSize);
+			p.setProperty(SqliteBase.PropertyJournalMode, journalMode);
+			p.setProperty(SqliteBase.PropertySynchronous, synchronous);
+			run("pool of " + poolSize + ", " + journalMode + " journal, synchronous " + synchronous,
+				"after", files, threads);
+		}
+		finally {
+			lock.delete();
+			new File(BENCHMARK_DB).delete();
+			new File(BENCHMARK_DB + "-wal").delete();
+			new File(BENCHMARK_DB + "-shm").delete();
+			new File(BENCHMARK_DB + "-journal").delete();
+		}
+		System.exit(0);
+	}
+
+	private static void run(String description, final String prefix, final int files, int threads)
+			throws Exception {
+		final SqliteDLDatabase catalog = new SqliteDLDatabase();
+		final List<Exception> failures = new ArrayList<Exception>();
+
+		List<Thread> workers = new ArrayList<Thread>();
+		for (int t = 0; t < threads; t++) {
+			final String worker = prefix + "-" + t + "-";
+			workers.add(new Thread(new Runnable() {
+				public void run() {
+					try {
+						for (int i = 0; i < files; i++)
+							exercise(catalog, worker + i);
+					}
+					catch (Exception e) {
+						synchronized (failures) {
+							failures.add(e);
+						}
+					}
+				}
+			}));
+		}
+
+		long start = System.currentTimeMillis();
+		for (Thread worker : workers)
+			worker.start();
+		for (Thread worker : workers)
+			worker.join();
+		long elapsed = Math.max(1, System.currentTimeMillis() - start);
+
+		if (!failures.isEmpty())
+			throw failures.get(0);
+
+		long ops = (long) files * threads * OPS_PER_FILE;
+		System.out.println(description + ": " + ops + " operations in " + elapsed + " ms, " +
+			(ops * 1000 / elapsed) + " ops/sec");
+	}
+
+	/**
+	 * The catalog operations one downloaded and reused file goes through.
+	 */
+	private static void exercise(SqliteDLDatabase catalog, String signature) throws Exception {
+		catalog.checkDownloadList(signature, true, "http://localhost/" + signature, "HTTP");
+		catalog.updateFileSize(signature, 1024);
+		catalog.completeDownload(signature, "/tmp/" + signature, null);
+		catalog.removeReference(signature);
+		catalog.checkDownloadList(signature, true, null, null);
+		catalog.getEntry(signature);
+		catalog.removeReference(signature);
+	}
+}
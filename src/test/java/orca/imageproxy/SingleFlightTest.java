@@ -0,0 +1,142 @@
+package orca.imageproxy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+/**
+ * Many concurrent callers of one key share a single run of the work.
+ */
+public class SingleFlightTest extends TestCase {
+
+	private static final int WAITERS = 1000;
+
+	private SingleFlight<Object> singleFlight;
+	private AtomicInteger runs;
+	// counted down by every caller that joined a run in progress
+	private CountDownLatch joined;
+
+	protected void setUp() {
+		singleFlight = new SingleFlight<Object>();
+		runs = new AtomicInteger();
+		joined = new CountDownLatch(WAITERS - 1);
+	}
+
+	public void testWaitersShareOneResult() throws Exception {
+		final Object result = new Object();
+		List<Caller> callers = runAll(new Callable<Object>() {
+			public Object call() throws Exception {
+				runs.incrementAndGet();
+				// hold the run open until everybody else has joined it
+				assertTrue(joined.await(60, TimeUnit.SECONDS));
+				return result;
+			}
+		});
+
+		assertEquals(1, runs.get());
+		assertEquals(1, countLeaders(callers));
+		for (Caller caller : callers) {
+			assertNull(caller.error);
+			assertSame(result, caller.result);
+		}
+		assertEquals(0, singleFlight.size());
+	}
+
+	public void testWaitersShareOneException() throws Exception {
+		final Exception failure = new Exception("origin is down");
+		List<Caller> callers = runAll(new Callable<Object>() {
+			public Object call() throws Exception {
+				runs.incrementAndGet();
+				assertTrue(joined.await(60, TimeUnit.SECONDS));
+				throw failure;
+			}
+		});
+
+		assertEquals(1, runs.get());
+		assertEquals(1, countLeaders(callers));
+		for (Caller caller : callers) {
+			assertNull(caller.result);
+			assertSame(failure, caller.error);
+		}
+		assertEquals(0, singleFlight.size());
+	}
+
+	public void testKeyRunsAgainAfterwards() throws Exception {
+		Callable<Object> work = new Callable<Object>() {
+			public Object call() {
+				return Integer.valueOf(runs.incrementAndGet());
+			}
+		};
+
+		SingleFlight.Flight<Object> first = singleFlight.join("key", work);
+		SingleFlight.Flight<Object> second = singleFlight.join("key", work);
+
+		assertTrue(first.isLeader());
+		assertTrue(second.isLeader());
+		assertEquals(Integer.valueOf(1), first.get());
+		assertEquals(Integer.valueOf(2), second.get());
+		assertEquals(0, singleFlight.size());
+	}
+
+	/**
+	 * Starts all callers on one key at once and waits for them.
+	 */
+	private List<Caller> runAll(Callable<Object> work) throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Caller> callers = new ArrayList<Caller>();
+		for (int i = 0; i < WAITERS; i++) {
+			Caller caller = new Caller(start, work);
+			callers.add(caller);
+			caller.start();
+		}
+		start.countDown();
+		for (Caller caller : callers) {
+			caller.join(120000);
+			assertFalse("caller still waiting", caller.isAlive());
+		}
+		return callers;
+	}
+
+	private static int countLeaders(List<Caller> callers) {
+		int leaders = 0;
+		for (Caller caller : callers) {
+			if (caller.leader)
+				leaders++;
+		}
+		return leaders;
+	}
+
+	private class Caller extends Thread {
+
+		private final CountDownLatch start;
+		private final Callable<Object> work;
+
+		volatile boolean leader;
+		volatile Object result;
+		volatile Exception error;
+
+		Caller(CountDownLatch start, Callable<Object> work) {
+			this.start = start;
+			this.work = work;
+		}
+
+		public void run() {
+			try {
+				start.await();
+				SingleFlight.Flight<Object> flight = singleFlight.join("key", work);
+				leader = flight.isLeader();
+				if (!leader)
+					joined.countDown();
+				result = flight.get();
+			}
+			catch (Exception e) {
+				error = e;
+			}
+		}
+	}
+}